@@ -18,10 +18,13 @@ import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -29,6 +32,8 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.set.MutableSet;
@@ -83,41 +88,41 @@ public interface ParallelIterable<T>
 //     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
 //     */
 //    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
-//
-//    /**
-//     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
-//     */
-//    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
-//
-//    /**
-//     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
-//     */
-//    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
-//
-//    /**
-//     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
-//     */
-//    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
-//
-//    /**
-//     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
-//     */
-//    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
-//
-//    /**
-//     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
-//     */
-//    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
-//
-//    /**
-//     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
-//     */
-//    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
-//
-//    /**
-//     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
-//     */
-//    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
+
+    /**
+     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
+     */
+    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
+
+    /**
+     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
+     */
+    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
+
+    /**
+     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
+     */
+    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
+
+    /**
+     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
+     */
+    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
+
+    /**
+     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
+     */
+    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
+
+    /**
+     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
+     */
+    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
+
+    /**
+     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
+     */
+    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
 
     void forEach(Procedure<? super T> procedure);
 
@@ -225,6 +230,45 @@ public interface ParallelIterable<T>
      */
     double sumOfDouble(DoubleFunction<? super T> function);
 
+    /**
+     * Groups and sums the values using the two specified functions. Each batch accumulates into its own map and the
+     * partial results are merged at the end, so no map is shared between threads.
+     *
+     * @since 7.1
+     */
+    <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch accumulates into its own map and the
+     * partial results are merged at the end. It uses Kahan summation algorithm within each batch.
+     *
+     * @since 7.1
+     */
+    <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch accumulates into its own map and the
+     * partial results are merged at the end, so no map is shared between threads.
+     *
+     * @since 7.1
+     */
+    <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function);
+
+    /**
+     * Groups and sums the values using the two specified functions. Each batch accumulates into its own map and the
+     * partial results are merged at the end. It uses Kahan summation algorithm within each batch.
+     *
+     * @since 7.1
+     */
+    <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function);
+
+    /**
+     * Returns a map from each key produced by the specified function to the number of elements that produced it.
+     *
+     * @since 7.1
+     */
+    <V> ObjectLongMap<V> countBy(Function<? super T, ? extends V> function);
+
     String makeString();
 
     String makeString(String separator);
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains API for primitive to primitive, primitive to object and object to primitive bimaps.
+ * <p>
+ *     A primitive bimap is similar to a {@link org.eclipse.collections.api.bimap.MutableBiMap}, but is memory-optimized for primitives.
+ */
+package org.eclipse.collections.api.bimap.primitive;
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+/**
+ * A ParallelMapIterable is a view of a map's key-value pairs which defers select, reject and collectValues, and
+ * evaluates everything else in parallel straight from the map's table, without copying the pairs first. All code
+ * blocks passed in must be stateless or thread-safe, and the map must not be modified while it is evaluated.
+ *
+ * @since 7.1
+ */
+@Beta
+public interface ParallelMapIterable<K, V>
+{
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    /**
+     * Creates a parallel map iterable for selecting key-value pairs from the current iterable.
+     */
+    ParallelMapIterable<K, V> select(Predicate2<? super K, ? super V> predicate);
+
+    /**
+     * Creates a parallel map iterable for rejecting key-value pairs from the current iterable.
+     */
+    ParallelMapIterable<K, V> reject(Predicate2<? super K, ? super V> predicate);
+
+    /**
+     * Creates a parallel map iterable which keeps the keys of the current iterable and replaces each value with the
+     * result of the function.
+     */
+    <R> ParallelMapIterable<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function);
+
+    int count(Predicate2<? super K, ? super V> predicate);
+
+    /**
+     * Groups the values by the result of {@code groupBy} and folds each group with {@code nonMutatingAggregator}.
+     *
+     * @see org.eclipse.collections.api.RichIterable#aggregateBy(Function, Function0, Function2)
+     */
+    <KK, VV> MapIterable<KK, VV> aggregateBy(Function<? super V, ? extends KK> groupBy, Function0<? extends VV> zeroValueFactory, Function2<? super VV, ? super V, ? extends VV> nonMutatingAggregator);
+
+    /**
+     * Groups the values by the result of {@code groupBy} and applies {@code mutatingAggregator} to each group's
+     * value, which must therefore be thread-safe.
+     *
+     * @see org.eclipse.collections.api.RichIterable#aggregateInPlaceBy(Function, Function0, Procedure2)
+     */
+    <KK, VV> MapIterable<KK, VV> aggregateInPlaceBy(Function<? super V, ? extends KK> groupBy, Function0<? extends VV> zeroValueFactory, Procedure2<? super VV, ? super V> mutatingAggregator);
+
+    MutableMap<K, V> toMap();
+}
@@ -71,6 +71,15 @@ public interface ImmutableSortedMap<K, V>
 
     MutableSortedMap<K, V> toSortedMap();
 
+    /**
+     * Returns the value associated with each of {@code keys} in turn, or null for a key which is not in this map. Keys
+     * which are sorted in the same order as this map, such as the elements of a sorted set with the same comparator,
+     * are looked up in a single forward pass over the map.
+     *
+     * @since 7.1
+     */
+    ImmutableList<V> getAll(Iterable<? extends K> keys);
+
     // TODO: When we have implementations of linked hash maps
     // ImmutableOrderedMap<V, K> flipUniqueValues();
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.forkjoin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.parallel.ParallelRunStatistics;
+import org.eclipse.collections.impl.utility.ArrayListIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+/**
+ * Runs one shared Procedure over a range of a random access list using lazy binary splitting. Before running its
+ * range, a task keeps forking off the upper half for as long as its worker's queue holds few unclaimed tasks, and
+ * stops at {@code minBatchSize} elements. Idle workers steal the forked halves, and a stolen half splits again on its
+ * new worker, so the list is cut finely only where workers are actually short of work: expensive ranges end up in
+ * many small batches and cheap ones in a few large ones.
+ *
+ * @since 7.1
+ */
+public class FJAdaptiveListProcedureTask<T> extends RecursiveAction
+{
+    /**
+     * Keep splitting while the worker's own queue has at most this many tasks which nobody has stolen yet.
+     */
+    private static final int SURPLUS_QUEUED_TASK_THRESHOLD = 3;
+    private static final long serialVersionUID = 1L;
+
+    private final List<T> list;
+    private final Procedure<? super T> procedure;
+    private final int minBatchSize;
+    private final ParallelRunStatistics statistics;
+    private final int start;
+    private final int end;
+    private FJAdaptiveListProcedureTask<T> nextForked;
+
+    public FJAdaptiveListProcedureTask(
+            List<T> list,
+            Procedure<? super T> procedure,
+            int minBatchSize,
+            ParallelRunStatistics statistics,
+            int start,
+            int end)
+    {
+        this.list = list;
+        this.procedure = procedure;
+        this.minBatchSize = minBatchSize;
+        this.statistics = statistics;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    protected void compute()
+    {
+        int high = this.end;
+        FJAdaptiveListProcedureTask<T> forked = null;
+        while (high - this.start > this.minBatchSize
+                && RecursiveAction.getSurplusQueuedTaskCount() <= SURPLUS_QUEUED_TASK_THRESHOLD)
+        {
+            int middle = (this.start + high) >>> 1;
+            FJAdaptiveListProcedureTask<T> upperHalf = new FJAdaptiveListProcedureTask<>(
+                    this.list, this.procedure, this.minBatchSize, this.statistics, middle, high);
+            upperHalf.nextForked = forked;
+            forked = upperHalf;
+            upperHalf.fork();
+            high = middle;
+        }
+        if (high > this.start)
+        {
+            long batchStartNanos = System.nanoTime();
+            try
+            {
+                this.forEach(this.start, high);
+            }
+            finally
+            {
+                this.statistics.batchCompleted(System.nanoTime() - batchStartNanos);
+            }
+        }
+        while (forked != null)
+        {
+            forked.join();
+            forked = forked.nextForked;
+        }
+    }
+
+    private void forEach(int from, int to)
+    {
+        int stop = to - 1;
+        if (this.list instanceof ListIterable)
+        {
+            ((ListIterable<T>) this.list).forEach(from, stop, this.procedure);
+        }
+        else if (this.list instanceof ArrayList)
+        {
+            ArrayListIterate.forEach((ArrayList<T>) this.list, from, stop, this.procedure);
+        }
+        else
+        {
+            ListIterate.forEach(this.list, from, stop, this.procedure);
+        }
+    }
+}
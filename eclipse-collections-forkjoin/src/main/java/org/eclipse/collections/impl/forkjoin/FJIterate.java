@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.RandomAccess;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
@@ -46,6 +47,7 @@ import org.eclipse.collections.impl.parallel.FlatCollectProcedureFactory;
 import org.eclipse.collections.impl.parallel.ObjectIntProcedureFactory;
 import org.eclipse.collections.impl.parallel.ParallelArrayIterate;
 import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.parallel.ParallelRunStatistics;
 import org.eclipse.collections.impl.parallel.PassThruCombiner;
 import org.eclipse.collections.impl.parallel.PassThruObjectIntProcedureFactory;
 import org.eclipse.collections.impl.parallel.PassThruProcedureFactory;
@@ -69,6 +71,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 public final class FJIterate
 {
     public static final int DEFAULT_MIN_FORK_SIZE = 5000;
+    private static final int DEFAULT_MIN_BATCH_SIZE = 100;
     private static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount() * 4;
 
     private static final ForkJoinPool FORK_JOIN_POOL = new ForkJoinPool(ParallelIterate.getDefaultMaxThreadPoolSize());
@@ -481,6 +484,84 @@ public final class FJIterate
         }
     }
 
+    /**
+     * Iterate over the collection specified in adaptively sized parallel batches using the default fork join pool.
+     * The {@code Procedure} used must be stateless, or use concurrent aware objects if they are to be shared.
+     * <p>
+     * Unlike {@link #forEach(Iterable, Procedure)}, which cuts the collection into a fixed number of sections up
+     * front, the collection is split in halves only while the pool's workers are short of work, so a run of expensive
+     * elements gets spread over idle workers instead of holding up the whole call.
+     *
+     * @see FJAdaptiveListProcedureTask
+     * @since 7.1
+     */
+    public static <T> void forEachAdaptive(Iterable<T> iterable, Procedure<? super T> procedure)
+    {
+        FJIterate.forEachAdaptive(
+                iterable,
+                procedure,
+                FJIterate.DEFAULT_MIN_BATCH_SIZE,
+                FJIterate.FORK_JOIN_POOL,
+                new ParallelRunStatistics());
+    }
+
+    /**
+     * Iterate over the collection specified in adaptively sized parallel batches of at least {@code minBatchSize}
+     * elements, on the specified pool, and record how the run was scheduled in {@code statistics}.  When called from
+     * inside a fork join task, the batches are forked into the current pool instead, so nested calls do not block a
+     * worker.
+     *
+     * @param minBatchSize The size below which a batch is no longer split.
+     * @param executor     Use this pool for all execution.
+     * @param statistics   Receives the batch count and the busy and idle time of the run.
+     * @see #forEachAdaptive(Iterable, Procedure)
+     * @since 7.1
+     */
+    public static <T> void forEachAdaptive(
+            Iterable<T> iterable,
+            Procedure<? super T> procedure,
+            int minBatchSize,
+            ForkJoinPool executor,
+            ParallelRunStatistics statistics)
+    {
+        if (minBatchSize < 1)
+        {
+            throw new IllegalArgumentException("Min batch size must be positive, was " + minBatchSize);
+        }
+        List<T> list;
+        if ((iterable instanceof RandomAccess || iterable instanceof ListIterable) && iterable instanceof List)
+        {
+            list = (List<T>) iterable;
+        }
+        else
+        {
+            list = ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+        }
+        FJAdaptiveListProcedureTask<T> task =
+                new FJAdaptiveListProcedureTask<>(list, procedure, minBatchSize, statistics, 0, list.size());
+        boolean nested = ForkJoinTask.inForkJoinPool();
+        statistics.runStarted(nested ? ForkJoinTask.getPool().getParallelism() : executor.getParallelism());
+        try
+        {
+            if (nested)
+            {
+                task.invoke();
+            }
+            else
+            {
+                executor.invoke(task);
+            }
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", e);
+        }
+        finally
+        {
+            statistics.runCompleted();
+        }
+    }
+
     // TODO find a better way to guarantee nested parallelism will not result in deadlocks with ForkJoin
     static boolean executedInsideOfForEach()
     {
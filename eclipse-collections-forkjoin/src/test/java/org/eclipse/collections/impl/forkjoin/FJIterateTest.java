@@ -53,6 +53,7 @@ import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
 import org.eclipse.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
 import org.eclipse.collections.impl.parallel.AbstractProcedureCombiner;
+import org.eclipse.collections.impl.parallel.ParallelRunStatistics;
 import org.eclipse.collections.impl.parallel.PassThruCombiner;
 import org.eclipse.collections.impl.parallel.PassThruObjectIntProcedureFactory;
 import org.eclipse.collections.impl.parallel.PassThruProcedureFactory;
@@ -299,6 +300,95 @@ public class FJIterateTest
         });
     }
 
+    @Test
+    public void forEachAdaptive()
+    {
+        this.iterables.forEach(new Procedure<RichIterable<Integer>>()
+        {
+            public void value(RichIterable<Integer> each)
+            {
+                final AtomicInteger sum = new AtomicInteger();
+                FJIterate.forEachAdaptive(each, new Procedure<Integer>()
+                {
+                    public void value(Integer integer)
+                    {
+                        sum.addAndGet(integer);
+                    }
+                });
+                Assert.assertEquals(each.getClass().getSimpleName(), 20100, sum.get());
+            }
+        });
+    }
+
+    @Test
+    public void forEachAdaptive_skewedCost_visitsEachElementOnce()
+    {
+        MutableList<Integer> list = Interval.zeroTo(999).toList();
+        final AtomicInteger[] visits = new AtomicInteger[list.size()];
+        for (int i = 0; i < visits.length; i++)
+        {
+            visits[i] = new AtomicInteger();
+        }
+        ParallelRunStatistics statistics = new ParallelRunStatistics();
+        FJIterate.forEachAdaptive(list, new Procedure<Integer>()
+        {
+            public void value(Integer each)
+            {
+                if (each < 100)
+                {
+                    Thread.yield();
+                }
+                visits[each].incrementAndGet();
+            }
+        }, 10, this.executor, statistics);
+
+        for (AtomicInteger each : visits)
+        {
+            Assert.assertEquals(1, each.get());
+        }
+        Assert.assertEquals(2, statistics.getWorkerCount());
+        Assert.assertTrue(statistics.getBatchCount() >= 1);
+        Assert.assertTrue(statistics.getBatchCount() <= list.size() / 5);
+        Assert.assertTrue(statistics.getElapsedNanos() > 0L);
+    }
+
+    @Test
+    public void forEachAdaptive_nested()
+    {
+        final AtomicInteger sum = new AtomicInteger();
+        FJIterate.forEachAdaptive(Interval.oneTo(20), new Procedure<Integer>()
+        {
+            public void value(Integer each)
+            {
+                FJIterate.forEachAdaptive(Interval.oneTo(each), new Procedure<Integer>()
+                {
+                    public void value(Integer integer)
+                    {
+                        sum.incrementAndGet();
+                    }
+                }, 1, FJIterateTest.this.executor, new ParallelRunStatistics());
+            }
+        }, 1, this.executor, new ParallelRunStatistics());
+        Assert.assertEquals(210, sum.get());
+    }
+
+    @Test
+    public void forEachAdaptive_withException()
+    {
+        Verify.assertThrows(RuntimeException.class, new Runnable()
+        {
+            public void run()
+            {
+                FJIterate.forEachAdaptive(
+                        FJIterateTest.createIntegerList(50),
+                        EXCEPTION_PROCEDURE,
+                        1,
+                        FJIterateTest.this.executor,
+                        new ParallelRunStatistics());
+            }
+        });
+    }
+
     @Test
     public void testForEachWithIndexToArrayUsingFastListSerialPath()
     {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.offheap.primitive;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Releases the native memory of direct byte buffers eagerly instead of waiting for the buffers to be garbage collected.
+ * The JDK has no public API for this, so the cleaner is looked up reflectively. When neither the Java 9+
+ * {@code Unsafe.invokeCleaner} nor the Java 8 {@code DirectBuffer.cleaner()} is available the memory is left to the
+ * garbage collector.
+ */
+final class DirectByteBuffers
+{
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    private static final Method CLEANER;
+    private static final Method CLEAN;
+
+    static
+    {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try
+        {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+        }
+        catch (Exception ignored)
+        {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+
+        Method cleaner = null;
+        Method clean = null;
+        if (INVOKE_CLEANER == null)
+        {
+            try
+            {
+                cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+                clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            }
+            catch (Exception ignored)
+            {
+                cleaner = null;
+                clean = null;
+            }
+        }
+        CLEANER = cleaner;
+        CLEAN = clean;
+    }
+
+    private DirectByteBuffers()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    public static void free(ByteBuffer[] buffers)
+    {
+        for (ByteBuffer buffer : buffers)
+        {
+            DirectByteBuffers.free(buffer);
+        }
+    }
+
+    public static void free(ByteBuffer buffer)
+    {
+        if (buffer == null || !buffer.isDirect())
+        {
+            return;
+        }
+        try
+        {
+            if (INVOKE_CLEANER != null)
+            {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            }
+            else if (CLEANER != null)
+            {
+                Object cleaner = CLEANER.invoke(buffer);
+                if (cleaner != null)
+                {
+                    CLEAN.invoke(cleaner);
+                }
+            }
+        }
+        catch (Exception ignored)
+        {
+            // the buffer will be released when it is garbage collected
+        }
+    }
+}
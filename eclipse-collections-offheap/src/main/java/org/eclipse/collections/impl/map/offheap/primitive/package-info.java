@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the mutable primitive-to-primitive map interfaces which keep their hash tables
+ * in direct memory, outside of the Java heap, and of immutable maps which are memory-mapped from files.
+ * <p>
+ * This package contains the following implementations:
+ * <ul>
+ * <li>
+ * {@link org.eclipse.collections.impl.map.offheap.primitive.IntIntOffHeapMap} - an {@link org.eclipse.collections.api.map.primitive.MutableIntIntMap} backed by direct byte buffers.
+ * </li>
+ * <li>
+ * {@link org.eclipse.collections.impl.map.offheap.primitive.LongLongOffHeapMap} - a {@link org.eclipse.collections.api.map.primitive.MutableLongLongMap} backed by direct byte buffers.
+ * </li>
+ * <li>
+ * {@link org.eclipse.collections.impl.map.offheap.primitive.ImmutableLongLongMappedMap} - an {@link org.eclipse.collections.api.map.primitive.ImmutableLongLongMap} read directly from a memory-mapped file.
+ * </li>
+ * </ul>
+ * Every combination of non-boolean key and value types is generated. The maps hold native memory or file mappings and must be closed.
+ */
+package org.eclipse.collections.impl.map.offheap.primitive;
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.offheap.primitive;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.eclipse.collections.api.map.primitive.ImmutableLongLongMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImmutableLongLongMappedMapTest
+{
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeAndLoadHeapMap() throws IOException
+    {
+        LongLongHashMap expected = new LongLongHashMap();
+        Random random = new Random(0x2468ACEL);
+        for (int i = 0; i < 20000; i++)
+        {
+            expected.put(random.nextLong(), random.nextLong());
+        }
+        expected.put(0L, 10L);
+        expected.put(1L, 11L);
+
+        File file = this.folder.newFile();
+        ImmutableLongLongMappedMap.write(expected, file);
+        ImmutableLongLongMappedMap mapped = ImmutableLongLongMappedMap.load(file);
+        Assert.assertEquals(expected, mapped);
+        Assert.assertEquals(mapped, expected);
+        Assert.assertEquals(expected.hashCode(), mapped.hashCode());
+        Assert.assertEquals(10L, mapped.get(0L));
+        Assert.assertEquals(11L, mapped.getOrThrow(1L));
+        Assert.assertEquals(-1L, mapped.getIfAbsent(2L, -1L));
+        Assert.assertEquals(expected.sum(), mapped.sum());
+        Assert.assertEquals(expected.keySet(), mapped.keySet());
+        Assert.assertSame(mapped, mapped.toImmutable());
+        mapped.close();
+        Assert.assertTrue(mapped.isClosed());
+    }
+
+    @Test
+    public void writeAndLoadOffHeapMapWithRemovedKeys() throws IOException
+    {
+        LongLongOffHeapMap offHeap = new LongLongOffHeapMap();
+        for (long i = 2L; i < 1000L; i++)
+        {
+            offHeap.put(i, i * 2L);
+        }
+        for (long i = 2L; i < 1000L; i += 3L)
+        {
+            offHeap.removeKey(i);
+        }
+
+        File file = this.folder.newFile();
+        ImmutableLongLongMappedMap.write(offHeap, file);
+        Assert.assertEquals(64L + offHeap.getOffHeapSizeInBytes(), file.length());
+        ImmutableLongLongMappedMap mapped = ImmutableLongLongMappedMap.load(file);
+        Assert.assertEquals(offHeap, mapped);
+        Assert.assertFalse(mapped.containsKey(2L));
+        Assert.assertTrue(mapped.containsKey(3L));
+        offHeap.close();
+        mapped.close();
+    }
+
+    @Test
+    public void newWithCopiesToHeap() throws IOException
+    {
+        File file = this.folder.newFile();
+        ImmutableLongLongMappedMap.write(LongLongHashMap.newWithKeysValues(1L, 1L, 2L, 2L), file);
+        ImmutableLongLongMappedMap mapped = ImmutableLongLongMappedMap.load(file);
+        ImmutableLongLongMap added = mapped.newWithKeyValue(3L, 3L);
+        Assert.assertEquals(LongLongHashMap.newWithKeysValues(1L, 1L, 2L, 2L, 3L, 3L), added);
+        Assert.assertEquals(LongLongHashMap.newWithKeysValues(2L, 2L), mapped.newWithoutKey(1L));
+        Assert.assertEquals(LongLongHashMap.newWithKeysValues(1L, 1L), mapped.newWithoutAllKeys(LongHashSet.newSetWith(2L)));
+        Assert.assertEquals(LongLongHashMap.newWithKeysValues(1L, 1L, 2L, 2L), mapped);
+        mapped.close();
+    }
+
+    @Test(expected = IOException.class)
+    public void loadRejectsOtherMapType() throws IOException
+    {
+        File file = this.folder.newFile();
+        ImmutableIntIntMappedMap.write(IntIntHashMap.newWithKeysValues(1, 1), file);
+        ImmutableLongLongMappedMap.load(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void loadRejectsForeignFile() throws IOException
+    {
+        File file = this.folder.newFile();
+        FileOutputStream stream = new FileOutputStream(file);
+        try
+        {
+            stream.write(new byte[128]);
+        }
+        finally
+        {
+            stream.close();
+        }
+        ImmutableLongLongMappedMap.load(file);
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.offheap.primitive;
+
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction0;
+import org.eclipse.collections.api.block.function.primitive.IntToIntFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntIntPredicate;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntIntOffHeapMapTest
+{
+    private static final IntToIntFunction INCREMENT = new IntToIntFunction()
+    {
+        public int valueOf(int value)
+        {
+            return value + 1;
+        }
+    };
+
+    private final IntIntOffHeapMap map = IntIntOffHeapMap.newWithKeysValues(0, 0, 1, 1, 31, 31, 32, 32);
+
+    @After
+    public void tearDown()
+    {
+        this.map.close();
+    }
+
+    @Test
+    public void getAndContains()
+    {
+        Verify.assertSize(4, this.map);
+        Assert.assertEquals(31, this.map.get(31));
+        Assert.assertEquals(0, this.map.get(2));
+        Assert.assertEquals(-1, this.map.getIfAbsent(2, -1));
+        Assert.assertEquals(1, this.map.getOrThrow(1));
+        Assert.assertTrue(this.map.containsKey(0));
+        Assert.assertTrue(this.map.containsKey(1));
+        Assert.assertFalse(this.map.containsKey(33));
+        Assert.assertTrue(this.map.containsValue(32));
+        Assert.assertFalse(this.map.containsValue(33));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getOrThrow_absent()
+    {
+        this.map.getOrThrow(33);
+    }
+
+    @Test
+    public void putAndRemove()
+    {
+        this.map.put(0, 10);
+        this.map.put(33, 33);
+        Assert.assertEquals(10, this.map.get(0));
+        Assert.assertEquals(33, this.map.get(33));
+        Verify.assertSize(5, this.map);
+
+        this.map.removeKey(0);
+        this.map.removeKey(1);
+        this.map.removeKey(31);
+        this.map.remove(100);
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(32, 32, 33, 33), this.map);
+        Assert.assertEquals(32, this.map.removeKeyIfAbsent(32, -1));
+        Assert.assertEquals(-1, this.map.removeKeyIfAbsent(32, -1));
+
+        this.map.put(31, 131);
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(31, 131, 33, 33), this.map);
+    }
+
+    @Test
+    public void growAndRemoveAgainstHeapMap()
+    {
+        IntIntOffHeapMap offHeap = new IntIntOffHeapMap();
+        IntIntHashMap onHeap = new IntIntHashMap();
+        for (int i = -5000; i < 5000; i++)
+        {
+            offHeap.put(i * 7, i);
+            onHeap.put(i * 7, i);
+        }
+        Assert.assertEquals(onHeap, offHeap);
+        Assert.assertEquals(offHeap, onHeap);
+        Assert.assertEquals(onHeap.hashCode(), offHeap.hashCode());
+
+        for (int i = -5000; i < 5000; i += 3)
+        {
+            offHeap.removeKey(i * 7);
+            onHeap.removeKey(i * 7);
+        }
+        for (int i = 0; i < 20000; i++)
+        {
+            offHeap.addToValue(i, 1);
+            onHeap.addToValue(i, 1);
+        }
+        Assert.assertEquals(onHeap, offHeap);
+        Assert.assertEquals(onHeap.keySet(), offHeap.keySet());
+        Assert.assertEquals(onHeap.values().toBag(), offHeap.values().toBag());
+        offHeap.close();
+    }
+
+    @Test
+    public void getIfAbsentPutAndUpdate()
+    {
+        Assert.assertEquals(31, this.map.getIfAbsentPut(31, 5));
+        Assert.assertEquals(5, this.map.getIfAbsentPut(40, 5));
+        Assert.assertEquals(6, this.map.getIfAbsentPut(41, new IntFunction0()
+        {
+            public int value()
+            {
+                return 6;
+            }
+        }));
+        Assert.assertEquals(7, this.map.getIfAbsentPutWith(42, new IntFunction<Integer>()
+        {
+            public int intValueOf(Integer parameter)
+            {
+                return parameter;
+            }
+        }, 7));
+        Assert.assertEquals(86, this.map.getIfAbsentPutWithKey(43, new IntToIntFunction()
+        {
+            public int valueOf(int key)
+            {
+                return key * 2;
+            }
+        }));
+        Assert.assertEquals(2, this.map.updateValue(1, 0, INCREMENT));
+        Assert.assertEquals(1, this.map.updateValue(44, 0, INCREMENT));
+        Assert.assertEquals(3, this.map.addToValue(0, 3));
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(0, 3, 1, 2, 31, 31, 32, 32)
+                .withKeysValues(40, 5, 41, 6, 42, 7, 43, 86)
+                .withKeyValue(44, 1), this.map);
+    }
+
+    @Test
+    public void iteration()
+    {
+        Assert.assertEquals(IntHashSet.newSetWith(0, 1, 31, 32), this.map.keysView().toSet());
+        Assert.assertEquals(IntHashBag.newBagWith(0, 1, 31, 32), this.map.toBag());
+        Verify.assertSize(4, this.map.keyValuesView().toList());
+        Assert.assertEquals(64L, this.map.sum());
+        Assert.assertEquals(32, this.map.max());
+        Assert.assertEquals("{0=0, 1=1, 31=31, 32=32}", this.map.toString());
+
+        MutableIntIterator iterator = this.map.intIterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 1)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(0, 0, 32, 32), this.map);
+    }
+
+    @Test
+    public void selectAndReject()
+    {
+        IntIntPredicate predicate = new IntIntPredicate()
+        {
+            public boolean accept(int key, int value)
+            {
+                return key > 1;
+            }
+        };
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(31, 31, 32, 32), this.map.select(predicate));
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(0, 0, 1, 1), this.map.reject(predicate));
+    }
+
+    @Test
+    public void keySetAndValuesRemoval()
+    {
+        this.map.keySet().remove(31);
+        Assert.assertTrue(this.map.values().remove(32));
+        Assert.assertTrue(this.map.keySet().retainAll(1));
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(1, 1), this.map);
+    }
+
+    @Test
+    public void clearAndCompact()
+    {
+        long sizeInBytes = this.map.getOffHeapSizeInBytes();
+        this.map.clear();
+        Verify.assertEmpty(this.map);
+        Assert.assertEquals(sizeInBytes, this.map.getOffHeapSizeInBytes());
+
+        IntIntOffHeapMap large = new IntIntOffHeapMap(1000);
+        large.put(5, 5);
+        large.compact();
+        Assert.assertEquals(8L * 2L, large.getOffHeapSizeInBytes());
+        Assert.assertEquals(IntIntHashMap.newWithKeysValues(5, 5), large);
+        large.close();
+    }
+
+    @Test
+    public void close()
+    {
+        final IntIntOffHeapMap closed = new IntIntOffHeapMap(IntIntHashMap.newWithKeysValues(0, 0, 5, 5));
+        Assert.assertFalse(closed.isClosed());
+        closed.close();
+        closed.close();
+        Assert.assertTrue(closed.isClosed());
+        Verify.assertEmpty(closed);
+        Assert.assertEquals(0L, closed.getOffHeapSizeInBytes());
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.get(5);
+            }
+        });
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.put(0, 1);
+            }
+        });
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.get(0);
+            }
+        });
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.getIfAbsent(1, 2);
+            }
+        });
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.getOrThrow(0);
+            }
+        });
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.containsKey(1);
+            }
+        });
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.removeKey(0);
+            }
+        });
+        Verify.assertThrows(IllegalStateException.class, new Runnable()
+        {
+            public void run()
+            {
+                closed.removeKeyIfAbsent(1, 2);
+            }
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeInitialCapacity()
+    {
+        new IntIntOffHeapMap(-1);
+    }
+
+    @Test
+    public void wrappers()
+    {
+        Assert.assertEquals(this.map, this.map.asUnmodifiable());
+        Assert.assertEquals(this.map, this.map.asSynchronized());
+        Assert.assertEquals(this.map, this.map.toImmutable());
+        Verify.assertThrows(UnsupportedOperationException.class, new Runnable()
+        {
+            public void run()
+            {
+                IntIntOffHeapMapTest.this.map.asUnmodifiable().put(2, 2);
+            }
+        });
+    }
+}
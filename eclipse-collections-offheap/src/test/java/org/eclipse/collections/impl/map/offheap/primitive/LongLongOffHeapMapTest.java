@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.offheap.primitive;
+
+import java.util.Random;
+
+import org.eclipse.collections.impl.block.factory.primitive.LongPredicates;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongLongOffHeapMapTest
+{
+    @Test
+    public void randomKeysAgainstHeapMap()
+    {
+        LongLongOffHeapMap offHeap = new LongLongOffHeapMap();
+        LongLongHashMap onHeap = new LongLongHashMap();
+        Random random = new Random(0x123456789ABCDL);
+        for (int i = 0; i < 50000; i++)
+        {
+            long key = random.nextLong();
+            long value = random.nextLong();
+            offHeap.put(key, value);
+            onHeap.put(key, value);
+            if (i % 5 == 0)
+            {
+                long toRemove = onHeap.keysView().detectIfNone(LongPredicates.alwaysTrue(), 0L);
+                offHeap.removeKey(toRemove);
+                onHeap.removeKey(toRemove);
+            }
+        }
+        Assert.assertEquals(onHeap, offHeap);
+        Assert.assertEquals(onHeap.toString().length(), offHeap.toString().length());
+        Assert.assertEquals(onHeap.keyValuesView().toSet(), offHeap.keyValuesView().toSet());
+        Assert.assertEquals(onHeap.sum(), offHeap.sum());
+        Assert.assertEquals(onHeap.values().toBag(), offHeap.values().toBag());
+        offHeap.close();
+    }
+
+    @Test
+    public void sentinelKeys()
+    {
+        LongLongOffHeapMap map = new LongLongOffHeapMap(0);
+        map.put(0L, 10L);
+        map.put(1L, 11L);
+        map.put(Long.MIN_VALUE, 12L);
+        Assert.assertEquals(LongLongHashMap.newWithKeysValues(0L, 10L, 1L, 11L, Long.MIN_VALUE, 12L), map);
+        Verify.assertContains(PrimitiveTuples.pair(1L, 11L), map.keyValuesView().toList());
+        Assert.assertEquals(LongHashSet.newSetWith(0L, 1L, Long.MIN_VALUE), map.keySet());
+        Assert.assertEquals(LongHashSet.newSetWith(0L, 1L, Long.MIN_VALUE), map.keysView().toSet());
+        Assert.assertEquals(21L, map.addToValue(0L, 11L));
+        map.removeKey(0L);
+        Assert.assertEquals(LongLongHashMap.newWithKeysValues(1L, 11L, Long.MIN_VALUE, 12L), map);
+        map.close();
+    }
+
+    @Test
+    public void offHeapSize()
+    {
+        LongLongOffHeapMap map = new LongLongOffHeapMap(100);
+        Assert.assertEquals(256L * 16L, map.getOffHeapSizeInBytes());
+        for (long i = 2L; i < 1000L; i++)
+        {
+            map.put(i, i);
+        }
+        Assert.assertEquals(2048L * 16L, map.getOffHeapSizeInBytes());
+        map.close();
+        Assert.assertEquals(0L, map.getOffHeapSizeInBytes());
+    }
+}
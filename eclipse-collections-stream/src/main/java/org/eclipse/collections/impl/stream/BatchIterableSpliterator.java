@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.BatchIterable;
+
+/**
+ * A Spliterator over a {@link BatchIterable}, such as {@link org.eclipse.collections.impl.set.mutable.UnifiedSet},
+ * {@link org.eclipse.collections.impl.map.mutable.UnifiedMap} and its key, value and entry views.  The iterable is
+ * divided into one section per slot of its internal table with {@code getBatchCount(1)}, so each section is a single
+ * bucket including any chained entries, and {@link #trySplit()} halves the remaining range of buckets.
+ * <p>
+ * The top level spliterator reports an exact size.  Split halves report an estimate, because the entries are not
+ * evenly spread across the table.  Like the iterators of these collections, this spliterator is not fail-fast.
+ *
+ * @since 7.1
+ */
+public final class BatchIterableSpliterator<T> implements Spliterator<T>
+{
+    private final BatchIterable<T> batchIterable;
+    private final int sectionCount;
+    private final int fence;
+    private final FastList<T> buffer = FastList.newList();
+    private int section;
+    private int bufferIndex;
+    private long estimatedSize;
+    private int characteristics;
+
+    public BatchIterableSpliterator(BatchIterable<T> batchIterable, int additionalCharacteristics)
+    {
+        this(batchIterable, batchIterable.getBatchCount(1), 0, batchIterable.getBatchCount(1), batchIterable.size(), additionalCharacteristics | Spliterator.SIZED);
+    }
+
+    private BatchIterableSpliterator(BatchIterable<T> batchIterable, int sectionCount, int origin, int fence, long estimatedSize, int characteristics)
+    {
+        this.batchIterable = batchIterable;
+        this.sectionCount = sectionCount;
+        this.section = origin;
+        this.fence = fence;
+        this.estimatedSize = estimatedSize;
+        this.characteristics = characteristics;
+    }
+
+    public Spliterator<T> trySplit()
+    {
+        int low = this.section;
+        int middle = (low + this.fence) >>> 1;
+        if (low >= middle || this.bufferIndex < this.buffer.size())
+        {
+            return null;
+        }
+        this.section = middle;
+        this.estimatedSize >>>= 1;
+        this.characteristics &= ~Spliterator.SIZED;
+        return new BatchIterableSpliterator<>(this.batchIterable, this.sectionCount, low, middle, this.estimatedSize, this.characteristics);
+    }
+
+    public boolean tryAdvance(Consumer<? super T> action)
+    {
+        while (this.bufferIndex >= this.buffer.size())
+        {
+            if (this.section >= this.fence)
+            {
+                return false;
+            }
+            this.buffer.clear();
+            this.bufferIndex = 0;
+            this.batchIterable.batchForEach(CollectionAddProcedure.on(this.buffer), this.section++, this.sectionCount);
+        }
+        if (this.estimatedSize > 0L)
+        {
+            this.estimatedSize--;
+        }
+        action.accept(this.buffer.get(this.bufferIndex++));
+        return true;
+    }
+
+    public void forEachRemaining(Consumer<? super T> action)
+    {
+        while (this.bufferIndex < this.buffer.size())
+        {
+            action.accept(this.buffer.get(this.bufferIndex++));
+        }
+        for (int i = this.section; i < this.fence; i++)
+        {
+            this.batchIterable.batchForEach(action::accept, i, this.sectionCount);
+        }
+        this.section = this.fence;
+        this.estimatedSize = 0L;
+    }
+
+    public long estimateSize()
+    {
+        return this.estimatedSize;
+    }
+
+    public int characteristics()
+    {
+        return this.characteristics;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stream;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+import org.eclipse.collections.api.list.primitive.DoubleList;
+
+/**
+ * A Spliterator over a {@link DoubleList}, such as {@link org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList},
+ * which splits by halving an index range without boxing.  The size of the list is bound on first use, and every split
+ * reports an exact size.
+ *
+ * @since 7.1
+ */
+public final class DoubleListSpliterator implements Spliterator.OfDouble
+{
+    private final DoubleList list;
+    private int index;
+    private int fence;
+
+    public DoubleListSpliterator(DoubleList list)
+    {
+        this(list, 0, -1);
+    }
+
+    private DoubleListSpliterator(DoubleList list, int origin, int fence)
+    {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    private int getFence()
+    {
+        if (this.fence < 0)
+        {
+            this.fence = this.list.size();
+        }
+        return this.fence;
+    }
+
+    public Spliterator.OfDouble trySplit()
+    {
+        int high = this.getFence();
+        int low = this.index;
+        int middle = (low + high) >>> 1;
+        if (low >= middle)
+        {
+            return null;
+        }
+        this.index = middle;
+        return new DoubleListSpliterator(this.list, low, middle);
+    }
+
+    public boolean tryAdvance(DoubleConsumer action)
+    {
+        int i = this.index;
+        if (i < this.getFence())
+        {
+            this.index = i + 1;
+            action.accept(this.list.get(i));
+            return true;
+        }
+        return false;
+    }
+
+    public void forEachRemaining(DoubleConsumer action)
+    {
+        int high = this.getFence();
+        for (int i = this.index; i < high; i++)
+        {
+            action.accept(this.list.get(i));
+        }
+        this.index = high;
+    }
+
+    public long estimateSize()
+    {
+        return (long) (this.getFence() - this.index);
+    }
+
+    public int characteristics()
+    {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
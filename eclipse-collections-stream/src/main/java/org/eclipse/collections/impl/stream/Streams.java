@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stream;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.collections.api.DoubleIterable;
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.iterator.DoubleIterator;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.iterator.LongIterator;
+import org.eclipse.collections.api.list.primitive.DoubleList;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.LongList;
+import org.eclipse.collections.api.set.primitive.DoubleSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.LongSet;
+import org.eclipse.collections.impl.parallel.BatchIterable;
+
+/**
+ * The Streams class creates {@link Spliterator}s and {@link Stream}s which split over the internal arrays of Eclipse
+ * Collections instead of falling back to the iterator based default of {@link Iterable#spliterator()}.
+ * <p>
+ * Lists which implement {@link RandomAccess}, like {@link org.eclipse.collections.impl.list.mutable.FastList}, are split
+ * by index.  {@link BatchIterable}s, like {@link org.eclipse.collections.impl.set.mutable.UnifiedSet} and
+ * {@link org.eclipse.collections.impl.map.mutable.UnifiedMap} and its views, are split by buckets of their hash table.
+ * Primitive lists, sets and maps can be streamed as {@link IntStream}s, {@link LongStream}s and {@link DoubleStream}s
+ * without boxing.
+ *
+ * @since 7.1
+ */
+public final class Streams
+{
+    private Streams()
+    {
+        // utility class only
+    }
+
+    /**
+     * Returns a spliterator over the iterable which splits over its internal structure where possible.  A
+     * {@link org.eclipse.collections.api.map.MapIterable} is an iterable of its values, so use {@code keySet()} or
+     * {@code entrySet()} of a {@link java.util.Map} to stream keys or entries.
+     */
+    public static <T> Spliterator<T> spliterator(Iterable<T> iterable)
+    {
+        if (iterable instanceof List && iterable instanceof RandomAccess)
+        {
+            return new RandomAccessListSpliterator<>((List<T>) iterable);
+        }
+        int characteristics = iterable instanceof Set ? Spliterator.DISTINCT : 0;
+        if (iterable instanceof BatchIterable)
+        {
+            return new BatchIterableSpliterator<>((BatchIterable<T>) iterable, characteristics);
+        }
+        if (iterable instanceof Collection)
+        {
+            return Spliterators.spliterator((Collection<T>) iterable, characteristics);
+        }
+        return iterable.spliterator();
+    }
+
+    public static <T> Stream<T> stream(Iterable<T> iterable)
+    {
+        return StreamSupport.stream(Streams.spliterator(iterable), false);
+    }
+
+    public static <T> Stream<T> parallelStream(Iterable<T> iterable)
+    {
+        return StreamSupport.stream(Streams.spliterator(iterable), true);
+    }
+
+    /**
+     * Returns a spliterator over the int values of the iterable.  A {@link IntList} is split by index and every split
+     * is sized; any other IntIterable is wrapped as a sized spliterator over its iterator, which is distinct if the
+     * iterable is a {@link IntSet}.  The values of a primitive-valued map can be streamed directly, and its keys through
+     * {@code keySet()} or {@code keysView()}.
+     */
+    public static Spliterator.OfInt spliterator(IntIterable iterable)
+    {
+        if (iterable instanceof IntList)
+        {
+            return new IntListSpliterator((IntList) iterable);
+        }
+        int characteristics = iterable instanceof IntSet ? Spliterator.DISTINCT : 0;
+        IntIterator iterator = iterable.intIterator();
+        PrimitiveIterator.OfInt adapted = new PrimitiveIterator.OfInt()
+        {
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            public int nextInt()
+            {
+                return iterator.next();
+            }
+        };
+        return Spliterators.spliterator(adapted, (long) iterable.size(), characteristics);
+    }
+
+    public static IntStream intStream(IntIterable iterable)
+    {
+        return StreamSupport.intStream(Streams.spliterator(iterable), false);
+    }
+
+    public static IntStream parallelIntStream(IntIterable iterable)
+    {
+        return StreamSupport.intStream(Streams.spliterator(iterable), true);
+    }
+
+    /**
+     * Returns a spliterator over the long values of the iterable.  A {@link LongList} is split by index and every split
+     * is sized; any other LongIterable is wrapped as a sized spliterator over its iterator, which is distinct if the
+     * iterable is a {@link LongSet}.  The values of a primitive-valued map can be streamed directly, and its keys through
+     * {@code keySet()} or {@code keysView()}.
+     */
+    public static Spliterator.OfLong spliterator(LongIterable iterable)
+    {
+        if (iterable instanceof LongList)
+        {
+            return new LongListSpliterator((LongList) iterable);
+        }
+        int characteristics = iterable instanceof LongSet ? Spliterator.DISTINCT : 0;
+        LongIterator iterator = iterable.longIterator();
+        PrimitiveIterator.OfLong adapted = new PrimitiveIterator.OfLong()
+        {
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            public long nextLong()
+            {
+                return iterator.next();
+            }
+        };
+        return Spliterators.spliterator(adapted, (long) iterable.size(), characteristics);
+    }
+
+    public static LongStream longStream(LongIterable iterable)
+    {
+        return StreamSupport.longStream(Streams.spliterator(iterable), false);
+    }
+
+    public static LongStream parallelLongStream(LongIterable iterable)
+    {
+        return StreamSupport.longStream(Streams.spliterator(iterable), true);
+    }
+
+    /**
+     * Returns a spliterator over the double values of the iterable.  A {@link DoubleList} is split by index and every split
+     * is sized; any other DoubleIterable is wrapped as a sized spliterator over its iterator, which is distinct if the
+     * iterable is a {@link DoubleSet}.  The values of a primitive-valued map can be streamed directly, and its keys through
+     * {@code keySet()} or {@code keysView()}.
+     */
+    public static Spliterator.OfDouble spliterator(DoubleIterable iterable)
+    {
+        if (iterable instanceof DoubleList)
+        {
+            return new DoubleListSpliterator((DoubleList) iterable);
+        }
+        int characteristics = iterable instanceof DoubleSet ? Spliterator.DISTINCT : 0;
+        DoubleIterator iterator = iterable.doubleIterator();
+        PrimitiveIterator.OfDouble adapted = new PrimitiveIterator.OfDouble()
+        {
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            public double nextDouble()
+            {
+                return iterator.next();
+            }
+        };
+        return Spliterators.spliterator(adapted, (long) iterable.size(), characteristics);
+    }
+
+    public static DoubleStream doubleStream(DoubleIterable iterable)
+    {
+        return StreamSupport.doubleStream(Streams.spliterator(iterable), false);
+    }
+
+    public static DoubleStream parallelDoubleStream(DoubleIterable iterable)
+    {
+        return StreamSupport.doubleStream(Streams.spliterator(iterable), true);
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains {@link java.util.Spliterator} implementations which split over the internal structure of
+ * Eclipse Collections, and the {@link org.eclipse.collections.impl.stream.Streams} utility which builds
+ * {@link java.util.stream.Stream}s from them.
+ */
+package org.eclipse.collections.impl.stream;
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stream;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StreamsTest
+{
+    @Test
+    public void fastListSpliterator()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(100));
+        Spliterator<Integer> spliterator = Streams.spliterator(list);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Assert.assertEquals(100L, spliterator.getExactSizeIfKnown());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(50L, prefix.getExactSizeIfKnown());
+        Assert.assertEquals(50L, spliterator.getExactSizeIfKnown());
+        FastList<Integer> result = FastList.newList();
+        prefix.forEachRemaining(result::add);
+        Assert.assertTrue(spliterator.tryAdvance(result::add));
+        spliterator.forEachRemaining(result::add);
+        Assert.assertEquals(list, result);
+        Assert.assertFalse(spliterator.tryAdvance(result::add));
+    }
+
+    @Test
+    public void fastListStream()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(10000));
+        Assert.assertEquals(list, Streams.stream(list).collect(Collectors.toList()));
+        Assert.assertEquals(list, Streams.parallelStream(list).collect(Collectors.toList()));
+        Assert.assertEquals(50005000L, Streams.parallelStream(list).mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    public void unifiedSetStream()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(Interval.oneTo(10000));
+        Spliterator<Integer> spliterator = Streams.spliterator(set);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(10000L, spliterator.getExactSizeIfKnown());
+        Assert.assertEquals(set, Streams.parallelStream(set).collect(Collectors.toSet()));
+        Assert.assertEquals(10000L, Streams.parallelStream(set).count());
+    }
+
+    @Test
+    public void unifiedSetStreamWithChains()
+    {
+        UnifiedSet<CollidingInt> set = UnifiedSet.newSet();
+        for (int i = 0; i < 1000; i++)
+        {
+            set.add(new CollidingInt(i, 3));
+        }
+        Verify.assertSize(1000, set);
+        Assert.assertEquals(set, Streams.parallelStream(set).collect(Collectors.toSet()));
+        Spliterator<CollidingInt> spliterator = Streams.spliterator(set);
+        Spliterator<CollidingInt> prefix = spliterator.trySplit();
+        UnifiedSet<CollidingInt> result = UnifiedSet.newSet();
+        int advanced = 0;
+        while (prefix.tryAdvance(result::add))
+        {
+            advanced++;
+        }
+        Assert.assertEquals(advanced, result.size());
+        spliterator.forEachRemaining(result::add);
+        Assert.assertEquals(set, result);
+    }
+
+    @Test
+    public void unifiedMapStream()
+    {
+        UnifiedMap<Integer, String> map = UnifiedMap.newMap();
+        for (int i = 0; i < 10000; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        Assert.assertEquals(map.keySet(), Streams.parallelStream(map.keySet()).collect(Collectors.toSet()));
+        Assert.assertEquals(map, Streams.parallelStream(map.entrySet()).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        Assert.assertEquals(map.toBag(), Streams.parallelStream(map).collect(Collectors.toCollection(HashBag::new)));
+        Assert.assertTrue(Streams.spliterator(map.keySet()).hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+    }
+
+    @Test
+    public void primitiveStreams()
+    {
+        IntArrayList intList = IntArrayList.newListWith(1, 2, 3, 4, 5);
+        Spliterator.OfInt spliterator = Streams.spliterator(intList);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Assert.assertEquals(15, Streams.parallelIntStream(intList).sum());
+        Assert.assertArrayEquals(intList.toArray(), Streams.intStream(intList).toArray());
+
+        IntHashSet intSet = IntHashSet.newSetWith(1, 2, 3);
+        Assert.assertTrue(Streams.spliterator(intSet).hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(6, Streams.intStream(intSet).sum());
+
+        LongLongHashMap map = LongLongHashMap.newWithKeysValues(1L, 10L, 2L, 20L);
+        Assert.assertEquals(30L, Streams.parallelLongStream(map).sum());
+        Assert.assertEquals(3L, Streams.longStream(map.keySet()).sum());
+
+        DoubleArrayList doubleList = DoubleArrayList.newListWith(1.0, 2.0, 3.0);
+        Assert.assertEquals(6.0, Streams.parallelDoubleStream(doubleList).sum(), 0.0);
+    }
+
+    private static final class CollidingInt
+    {
+        private final int value;
+        private final int shift;
+
+        private CollidingInt(int value, int shift)
+        {
+            this.value = value;
+            this.shift = shift;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            return obj instanceof CollidingInt && ((CollidingInt) obj).value == this.value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.value >> this.shift;
+        }
+    }
+}
@@ -0,0 +1,868 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * A ConcurrentHashBag is a MutableBag which can be updated from many threads without locking.  Each distinct item is
+ * mapped in a {@link ConcurrentHashMapUnsafe} to a counter cell, and {@link #addOccurrences(Object, int)} and
+ * {@link #removeOccurrences(Object, int)} are single compare-and-set loops on that cell.  A cell whose count drops to
+ * zero is marked dead and unlinked from the map; a writer that finds a dead cell removes it and installs a new one.
+ * <p>
+ * Bags created by {@link #newStripedBag()} spread the count of each item across several padded slots, indexed by the
+ * calling thread, so that many threads incrementing the same very hot item do not contend on one memory location.
+ * Reading the count of an item in a striped bag sums its slots, and items whose count drops to zero stay in the map
+ * until they are explicitly removed, cleared or set.
+ * <p>
+ * Iteration, {@link #size()} and {@link #sizeDistinct()} are weakly consistent and are computed by walking the map,
+ * so they are linear in the number of distinct items.  Null items are supported.
+ *
+ * @since 7.1
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object();
+
+    private static final int DEFAULT_STRIPES = 16;
+
+    private ConcurrentHashMapUnsafe<Object, Cell> items;
+    private int stripes;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMapUnsafe.newMap();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMapUnsafe.newMap(size);
+    }
+
+    private ConcurrentHashBag(int size, int stripes)
+    {
+        this(size);
+        this.stripes = stripes;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<E>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<E>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Bag<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag(source.sizeDistinct());
+        result.addAllBag(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof Bag)
+        {
+            return ConcurrentHashBag.newBag((Bag<E>) source);
+        }
+        return ConcurrentHashBag.newBagWith((E[]) Iterate.toArray(source));
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    /**
+     * Creates a bag which keeps a striped counter per item, suited to a small number of items being counted by many
+     * threads at once.
+     */
+    public static <E> ConcurrentHashBag<E> newStripedBag()
+    {
+        return ConcurrentHashBag.newStripedBag(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a bag which keeps a striped counter per item with the given number of stripes, rounded up to a power of
+     * two.
+     */
+    public static <E> ConcurrentHashBag<E> newStripedBag(int stripes)
+    {
+        if (stripes < 1)
+        {
+            throw new IllegalArgumentException("Stripes must be positive: " + stripes);
+        }
+        int powerOfTwo = 1;
+        while (powerOfTwo < stripes)
+        {
+            powerOfTwo <<= 1;
+        }
+        return new ConcurrentHashBag<E>(0, powerOfTwo);
+    }
+
+    public boolean isStriped()
+    {
+        return this.stripes != 0;
+    }
+
+    private static Object toKey(Object item)
+    {
+        return item == null ? NULL_KEY : item;
+    }
+
+    private static <T> T toItem(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private Cell newCell(int occurrences)
+    {
+        if (this.stripes == 0)
+        {
+            return new SingleCell(occurrences);
+        }
+        StripedCell cell = new StripedCell(this.stripes);
+        cell.tryAdd(occurrences);
+        return cell;
+    }
+
+    private int occurrencesOfKey(Object key)
+    {
+        Cell cell = this.items.get(key);
+        return cell == null ? 0 : cell.get();
+    }
+
+    private void addToKey(Object key, int occurrences)
+    {
+        while (true)
+        {
+            Cell cell = this.items.get(key);
+            if (cell == null)
+            {
+                if (this.items.putIfAbsent(key, this.newCell(occurrences)) == null)
+                {
+                    return;
+                }
+            }
+            else if (cell.tryAdd(occurrences))
+            {
+                return;
+            }
+            else
+            {
+                // the cell was killed by a concurrent remove; unlink it so that a fresh cell can be installed
+                this.items.remove(key, cell);
+            }
+        }
+    }
+
+    private int removeKey(Object key)
+    {
+        Cell cell = this.items.remove(key);
+        return cell == null ? 0 : cell.kill();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> source)
+    {
+        if (source instanceof Bag)
+        {
+            return this.addAllBag((Bag<T>) source);
+        }
+        return super.addAll(source);
+    }
+
+    private boolean addAllBag(Bag<? extends T> source)
+    {
+        source.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                ConcurrentHashBag.this.addOccurrences(each, occurrences);
+            }
+        });
+        return source.notEmpty();
+    }
+
+    public void addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences > 0)
+        {
+            this.addToKey(ConcurrentHashBag.toKey(item), occurrences);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (Map.Entry<Object, Cell> entry : this.items.entrySet())
+        {
+            int count = entry.getValue().get();
+            if (count > 0 && bag.occurrencesOf(ConcurrentHashBag.toItem(entry.getKey())) != count)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final Counter counter = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                counter.add((item == null ? 0 : item.hashCode()) ^ count);
+            }
+        });
+        return counter.getCount();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return LazyIterate.adapt(this.items.keySet()).select(new Predicate<Object>()
+        {
+            public boolean accept(Object key)
+            {
+                return ConcurrentHashBag.this.occurrencesOfKey(key) > 0;
+            }
+        }).collect(new Function<Object, T>()
+        {
+            public T valueOf(Object key)
+            {
+                return ConcurrentHashBag.toItem(key);
+            }
+        });
+    }
+
+    public int sizeDistinct()
+    {
+        int result = 0;
+        for (Cell cell : this.items.values())
+        {
+            if (cell.get() > 0)
+            {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    public int occurrencesOf(Object item)
+    {
+        return this.occurrencesOfKey(ConcurrentHashBag.toKey(item));
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue(new Procedure2<Object, Cell>()
+        {
+            public void value(Object key, Cell cell)
+            {
+                int count = cell.get();
+                if (count > 0)
+                {
+                    objectIntProcedure.value(ConcurrentHashBag.<T>toItem(key), count);
+                }
+            }
+        });
+    }
+
+    public MutableBag<T> selectByOccurrences(final IntPredicate predicate)
+    {
+        final MutableBag<T> result = this.newEmpty();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, int occurrences)
+            {
+                if (predicate.accept(occurrences))
+                {
+                    result.addOccurrences(each, occurrences);
+                }
+            }
+        });
+        return result;
+    }
+
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        final MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T item, int count)
+            {
+                map.put(item, count);
+            }
+        });
+        return map;
+    }
+
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    public void clear()
+    {
+        for (Object key : this.items.keySet())
+        {
+            this.removeKey(key);
+        }
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        for (Cell cell : this.items.values())
+        {
+            if (cell.get() > 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(this.stripes);
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.stripes = in.readInt();
+        int size = in.readInt();
+        this.items = ConcurrentHashMapUnsafe.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    public void each(final Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(final ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        final Counter index = new Counter();
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    objectIntProcedure.value(key, index.getCount());
+                    index.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(final Procedure2<? super T, ? super P> procedure, final P parameter)
+    {
+        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T key, int count)
+            {
+                for (int i = 0; i < count; i++)
+                {
+                    procedure.value(key, parameter);
+                }
+            }
+        });
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+
+        if (occurrences == 0)
+        {
+            return false;
+        }
+
+        Object key = ConcurrentHashBag.toKey(item);
+        Cell cell = this.items.get(key);
+        if (cell == null)
+        {
+            return false;
+        }
+        int removed = cell.take(occurrences);
+        if (cell.isDead())
+        {
+            this.items.remove(key, cell);
+        }
+        return removed > 0;
+    }
+
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+
+        Object key = ConcurrentHashBag.toKey(item);
+        Cell previous = occurrences == 0 ? this.items.remove(key) : this.items.put(key, this.newCell(occurrences));
+        int originalOccurrences = previous == null ? 0 : previous.kill();
+        return originalOccurrences != occurrences;
+    }
+
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public MutableBag<T> newEmpty()
+    {
+        return this.stripes == 0 ? ConcurrentHashBag.<T>newBag() : ConcurrentHashBag.<T>newStripedBag(this.stripes);
+    }
+
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (this.occurrencesOfKey(key) > 0 && predicate.accept(ConcurrentHashBag.<T>toItem(key)))
+            {
+                changed |= this.removeKey(key) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (this.occurrencesOfKey(key) > 0 && predicate.accept(ConcurrentHashBag.<T>toItem(key), parameter))
+            {
+                changed |= this.removeKey(key) > 0;
+            }
+        }
+        return changed;
+    }
+
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        final boolean[] changed = {false};
+        if (iterable instanceof Bag)
+        {
+            Bag<?> source = (Bag<?>) iterable;
+            source.forEachWithOccurrences(new ObjectIntProcedure<Object>()
+            {
+                public void value(Object each, int parameter)
+                {
+                    changed[0] |= ConcurrentHashBag.this.removeKey(ConcurrentHashBag.toKey(each)) > 0;
+                }
+            });
+        }
+        else
+        {
+            for (Object each : iterable)
+            {
+                changed[0] |= this.removeKey(ConcurrentHashBag.toKey(each)) > 0;
+            }
+        }
+        return changed[0];
+    }
+
+    /**
+     * Returns the total number of occurrences.  This walks every counter in the bag, so it is linear in the number of
+     * distinct items rather than constant as in {@link HashBag}.
+     */
+    public int size()
+    {
+        int result = 0;
+        for (Cell cell : this.items.values())
+        {
+            result += cell.get();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.occurrencesOf(o) > 0;
+    }
+
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.<V, T>newMultimap());
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public boolean add(T item)
+    {
+        this.addToKey(ConcurrentHashBag.toKey(item), 1);
+        return true;
+    }
+
+    public ConcurrentHashBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    /**
+     * The count of one item.  A cell that has been killed never accepts another addition, which guarantees that an
+     * addition is never lost to a cell that has already been unlinked from the map.
+     */
+    private abstract static class Cell
+    {
+        abstract int get();
+
+        /**
+         * Returns false if the cell is dead, in which case the caller must unlink it and install a new cell.
+         */
+        abstract boolean tryAdd(int occurrences);
+
+        /**
+         * Removes up to the given number of occurrences, never going below zero, and returns how many were removed.
+         */
+        abstract int take(int occurrences);
+
+        /**
+         * Marks the cell dead and returns the count it held.
+         */
+        abstract int kill();
+
+        abstract boolean isDead();
+    }
+
+    private static final class SingleCell extends Cell
+    {
+        private static final AtomicIntegerFieldUpdater<SingleCell> COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(SingleCell.class, "count");
+
+        // a count of zero means the cell is dead
+        private volatile int count;
+
+        private SingleCell(int count)
+        {
+            this.count = count;
+        }
+
+        @Override
+        int get()
+        {
+            return this.count;
+        }
+
+        @Override
+        boolean tryAdd(int occurrences)
+        {
+            while (true)
+            {
+                int localCount = this.count;
+                if (localCount == 0)
+                {
+                    return false;
+                }
+                if (COUNT_UPDATER.compareAndSet(this, localCount, localCount + occurrences))
+                {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        int take(int occurrences)
+        {
+            while (true)
+            {
+                int localCount = this.count;
+                if (localCount == 0)
+                {
+                    return 0;
+                }
+                int newCount = occurrences >= localCount ? 0 : localCount - occurrences;
+                if (COUNT_UPDATER.compareAndSet(this, localCount, newCount))
+                {
+                    return localCount - newCount;
+                }
+            }
+        }
+
+        @Override
+        int kill()
+        {
+            return COUNT_UPDATER.getAndSet(this, 0);
+        }
+
+        @Override
+        boolean isDead()
+        {
+            return this.count == 0;
+        }
+    }
+
+    private static final class StripedCell extends Cell
+    {
+        // each slot is spaced 16 ints (64 bytes) apart to avoid false sharing between threads
+        private final AtomicIntegerArray slots;
+        private final int mask;
+        private volatile boolean dead;
+
+        private StripedCell(int stripes)
+        {
+            this.slots = new AtomicIntegerArray(stripes << 4);
+            this.mask = stripes - 1;
+        }
+
+        private int probe()
+        {
+            int h = (int) Thread.currentThread().getId();
+            h ^= (h >>> 18) ^ (h >>> 12);
+            return (h ^ (h >>> 10)) & this.mask;
+        }
+
+        @Override
+        int get()
+        {
+            int result = 0;
+            for (int i = 0; i <= this.mask; i++)
+            {
+                result += this.slots.get(i << 4);
+            }
+            return result < 0 ? 0 : result;
+        }
+
+        @Override
+        boolean tryAdd(int occurrences)
+        {
+            int index = this.probe() << 4;
+            this.slots.addAndGet(index, occurrences);
+            if (this.dead)
+            {
+                this.slots.addAndGet(index, -occurrences);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        int take(int occurrences)
+        {
+            int remaining = occurrences;
+            int start = this.probe();
+            for (int i = 0; i <= this.mask && remaining > 0; i++)
+            {
+                int index = ((start + i) & this.mask) << 4;
+                while (true)
+                {
+                    int localCount = this.slots.get(index);
+                    if (localCount <= 0)
+                    {
+                        break;
+                    }
+                    int taken = Math.min(localCount, remaining);
+                    if (this.slots.compareAndSet(index, localCount, localCount - taken))
+                    {
+                        remaining -= taken;
+                        break;
+                    }
+                }
+            }
+            return occurrences - remaining;
+        }
+
+        @Override
+        int kill()
+        {
+            this.dead = true;
+            return this.get();
+        }
+
+        @Override
+        boolean isDead()
+        {
+            return this.dead;
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Object> iterator = ConcurrentHashBag.this.items.keySet().iterator();
+
+        private Object nextKey;
+        private int nextOccurrences;
+        private T currentItem;
+        private int occurrences;
+        private boolean canRemove;
+
+        public boolean hasNext()
+        {
+            if (this.occurrences > 0)
+            {
+                return true;
+            }
+            while (this.nextOccurrences == 0 && this.iterator.hasNext())
+            {
+                this.nextKey = this.iterator.next();
+                this.nextOccurrences = ConcurrentHashBag.this.occurrencesOfKey(this.nextKey);
+            }
+            return this.nextOccurrences > 0;
+        }
+
+        public T next()
+        {
+            if (this.occurrences == 0)
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                this.currentItem = ConcurrentHashBag.toItem(this.nextKey);
+                this.occurrences = this.nextOccurrences;
+                this.nextOccurrences = 0;
+            }
+            this.occurrences--;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.currentItem);
+            this.canRemove = false;
+        }
+    }
+}
@@ -17,10 +17,14 @@ import java.io.ObjectOutput;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.Bag;
 import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.bag.ParallelUnsortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
@@ -34,8 +38,21 @@ import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
 import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.block.factory.primitive.IntToIntFunctions;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.bag.AbstractParallelUnsortedBag;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.NonParallelUnsortedBag;
+import org.eclipse.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -48,7 +65,7 @@ import org.eclipse.collections.impl.utility.Iterate;
  */
 public class HashBag<T>
         extends AbstractMutableBag<T>
-        implements Externalizable
+        implements Externalizable, MemoryMeasurable
 {
     private static final long serialVersionUID = 1L;
 
@@ -190,6 +207,19 @@ public class HashBag<T>
         return this.items.size();
     }
 
+    public MemoryUsage getMemoryUsage(MemoryLayout layout)
+    {
+        long shallowBytes = layout.shallowSizeOf(this);
+        MemoryUsage itemsUsage = ((MemoryMeasurable) this.items).getMemoryUsage(layout);
+        return new MemoryUsage(
+                shallowBytes,
+                shallowBytes,
+                0L,
+                itemsUsage.getSize(),
+                itemsUsage.getCapacity(),
+                itemsUsage.getCollidingBuckets()).withNested(itemsUsage);
+    }
+
     public int occurrencesOf(Object item)
     {
         return this.items.get(item);
@@ -503,6 +533,231 @@ public class HashBag<T>
         return this;
     }
 
+    @Beta
+    @Override
+    public ParallelUnsortedBag<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        if (this.items instanceof ObjectIntHashMap)
+        {
+            return new HashBagParallelUnsortedBag(executorService, batchSize);
+        }
+        return new NonParallelUnsortedBag<T>(this);
+    }
+
+    private final class HashBagUnsortedBagBatch extends AbstractBatch<T> implements RootUnsortedBagBatch<T>
+    {
+        private final ObjectIntHashMap<T> items;
+        private final int sectionIndex;
+        private final int sectionCount;
+
+        private HashBagUnsortedBagBatch(ObjectIntHashMap<T> items, int sectionIndex, int sectionCount)
+        {
+            this.items = items;
+            this.sectionIndex = sectionIndex;
+            this.sectionCount = sectionCount;
+        }
+
+        public void forEach(final Procedure<? super T> procedure)
+        {
+            this.items.batchForEachKeyValue(new ObjectIntProcedure<T>()
+            {
+                public void value(T each, int occurrences)
+                {
+                    for (int i = 0; i < occurrences; i++)
+                    {
+                        procedure.value(each);
+                    }
+                }
+            }, this.sectionIndex, this.sectionCount);
+        }
+
+        public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+        {
+            this.items.batchForEachKeyValue(procedure, this.sectionIndex, this.sectionCount);
+        }
+
+        public boolean anySatisfy(final Predicate<? super T> predicate)
+        {
+            return this.items.batchAnySatisfyKeyValue(new ObjectIntPredicate<T>()
+            {
+                public boolean accept(T each, int occurrences)
+                {
+                    return predicate.accept(each);
+                }
+            }, this.sectionIndex, this.sectionCount);
+        }
+
+        public boolean allSatisfy(final Predicate<? super T> predicate)
+        {
+            return !this.items.batchAnySatisfyKeyValue(new ObjectIntPredicate<T>()
+            {
+                public boolean accept(T each, int occurrences)
+                {
+                    return !predicate.accept(each);
+                }
+            }, this.sectionIndex, this.sectionCount);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            DetectItemPredicate<T> detectItemPredicate = new DetectItemPredicate<T>(predicate);
+            this.items.batchAnySatisfyKeyValue(detectItemPredicate, this.sectionIndex, this.sectionCount);
+            return detectItemPredicate.found;
+        }
+
+        public UnsortedBagBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectUnsortedBagBatch<T>(this, predicate);
+        }
+
+        public <V> UnsortedBagBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectUnsortedBagBatch<T, V>(this, function);
+        }
+
+        public <V> UnsortedBagBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectUnsortedBagBatch<T, V>(this, function);
+        }
+    }
+
+    private static final class DetectItemPredicate<T> implements ObjectIntPredicate<T>
+    {
+        private final Predicate<? super T> predicate;
+        private T found;
+
+        private DetectItemPredicate(Predicate<? super T> predicate)
+        {
+            this.predicate = predicate;
+        }
+
+        public boolean accept(T each, int occurrences)
+        {
+            if (this.predicate.accept(each))
+            {
+                this.found = each;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final class HashBagParallelUnsortedBag extends AbstractParallelUnsortedBag<T, RootUnsortedBagBatch<T>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private HashBagParallelUnsortedBag(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<RootUnsortedBagBatch<T>> split()
+        {
+            return new HashBagParallelSplitLazyIterable();
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            AbstractParallelIterable.forEach(this, procedure);
+        }
+
+        public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+        {
+            AbstractParallelUnsortedBag.forEachWithOccurrences(this, procedure);
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.anySatisfy(this, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.allSatisfy(this, predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return AbstractParallelIterable.detect(this, predicate);
+        }
+
+        @Override
+        public Object[] toArray()
+        {
+            // TODO: Implement in parallel
+            return HashBag.this.toArray();
+        }
+
+        @Override
+        public <E> E[] toArray(E[] array)
+        {
+            // TODO: Implement in parallel
+            return HashBag.this.toArray(array);
+        }
+
+        private class HashBagParallelSplitIterator implements Iterator<RootUnsortedBagBatch<T>>
+        {
+            private final ObjectIntHashMap<T> items = (ObjectIntHashMap<T>) HashBag.this.items;
+            private final int sectionCount = this.items.getBatchCount(HashBagParallelUnsortedBag.this.batchSize);
+            private int sectionIndex;
+
+            public boolean hasNext()
+            {
+                return this.sectionIndex < this.sectionCount;
+            }
+
+            public RootUnsortedBagBatch<T> next()
+            {
+                return new HashBagUnsortedBagBatch(this.items, this.sectionIndex++, this.sectionCount);
+            }
+
+            public void remove()
+            {
+                throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+            }
+        }
+
+        private class HashBagParallelSplitLazyIterable
+                extends AbstractLazyIterable<RootUnsortedBagBatch<T>>
+        {
+            public void each(Procedure<? super RootUnsortedBagBatch<T>> procedure)
+            {
+                for (RootUnsortedBagBatch<T> chunk : this)
+                {
+                    procedure.value(chunk);
+                }
+            }
+
+            public Iterator<RootUnsortedBagBatch<T>> iterator()
+            {
+                return new HashBagParallelSplitIterator();
+            }
+        }
+    }
+
     private class InternalIterator implements Iterator<T>
     {
         private final Iterator<T> iterator = HashBag.this.items.keySet().iterator();
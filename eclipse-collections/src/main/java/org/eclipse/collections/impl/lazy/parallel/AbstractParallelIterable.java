@@ -23,49 +23,79 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectDoubleProcedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectLongProcedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.bag.sorted.mutable.TreeBag;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.Functions2;
 import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
 import org.eclipse.collections.impl.block.procedure.DoubleSumResultHolder;
+import org.eclipse.collections.impl.block.procedure.InjectIntoProcedure;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.block.procedure.MultimapEachPutProcedure;
+import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectShortIterable;
 import org.eclipse.collections.impl.list.mutable.CompositeFastList;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.tuple.Tuples;
 
 @Beta
 public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements ParallelIterable<T>
@@ -550,6 +580,41 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         }
     }
 
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new ParallelCollectByteIterable<T>(this, function);
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new ParallelCollectCharIterable<T>(this, function);
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new ParallelCollectDoubleIterable<T>(this, function);
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new ParallelCollectFloatIterable<T>(this, function);
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new ParallelCollectIntIterable<T>(this, function);
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new ParallelCollectLongIterable<T>(this, function);
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new ParallelCollectShortIterable<T>(this, function);
+    }
+
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
         this.forEach(Procedures.bind(procedure, parameter));
@@ -626,12 +691,44 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableList<T> toSortedList()
     {
-        return this.toList().toSortedList();
+        return this.toSortedList(null);
     }
 
     public MutableList<T> toSortedList(Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        return FastList.newListWith((T[]) this.toSortedArray(comparator, false));
+    }
+
+    /**
+     * Sorts each batch on its own thread and then merges the sorted batches in parallel, see
+     * {@link ParallelSortedMerge}. A null comparator means natural ordering.
+     */
+    private Object[] toSortedArray(final Comparator<? super T> comparator, final boolean distinct)
+    {
+        Function<Batch<T>, Object[]> map = new Function<Batch<T>, Object[]>()
+        {
+            public Object[] valueOf(Batch<T> batch)
+            {
+                FastList<T> list = FastList.newList();
+                batch.forEach(CollectionAddProcedure.on(list));
+                return ParallelSortedMerge.sortRun(list.toArray(), comparator, distinct);
+            }
+        };
+        return this.mergeSortedRuns(map, comparator, distinct);
+    }
+
+    private Object[] mergeSortedRuns(Function<Batch<T>, Object[]> sortBatch, Comparator<?> comparator, boolean distinct)
+    {
+        Procedure2<MutableList<Object[]>, Object[]> reduce = new Procedure2<MutableList<Object[]>, Object[]>()
+        {
+            public void value(MutableList<Object[]> runs, Object[] run)
+            {
+                runs.add(run);
+            }
+        };
+        MutableList<Object[]> runs = FastList.newList();
+        this.collectCombine(sortBatch, reduce, runs);
+        return ParallelSortedMerge.merge(this.getExecutorService(), runs, comparator, distinct);
     }
 
     public <V extends Comparable<? super V>> MutableList<T> toSortedListBy(Function<? super T, ? extends V> function)
@@ -649,9 +746,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableSortedSet<T> toSortedSet()
     {
-        MutableSortedSet<T> result = TreeSortedSet.<T>newSet().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.toSortedSet(null);
     }
 
     public <V extends Comparable<? super V>> MutableSortedSet<T> toSortedSetBy(Function<? super T, ? extends V> function)
@@ -668,15 +763,34 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableSortedBag<T> toSortedBag()
     {
-        MutableSortedBag<T> result = TreeBag.<T>newBag().asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        return this.toSortedBag(TreeBag.<T>newBag(), null);
     }
 
     public MutableSortedBag<T> toSortedBag(Comparator<? super T> comparator)
     {
-        MutableSortedBag<T> result = TreeBag.newBag(comparator).asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
+        return this.toSortedBag(TreeBag.newBag(comparator), comparator);
+    }
+
+    /**
+     * Adds each run of equal elements of the merged batches with a single call to addOccurrences.
+     */
+    private MutableSortedBag<T> toSortedBag(MutableSortedBag<T> result, Comparator<? super T> comparator)
+    {
+        T[] sorted = (T[]) this.toSortedArray(comparator, false);
+        Comparator<? super T> nonNullComparator = comparator;
+        if (nonNullComparator == null)
+        {
+            nonNullComparator = Comparators.<T>naturalOrder();
+        }
+        int start = 0;
+        for (int i = 1; i <= sorted.length; i++)
+        {
+            if (i == sorted.length || nonNullComparator.compare(sorted[start], sorted[i]) != 0)
+            {
+                result.addOccurrences(sorted[start], i - start);
+                start = i;
+            }
+        }
         return result;
     }
 
@@ -687,9 +801,8 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     public MutableSortedSet<T> toSortedSet(Comparator<? super T> comparator)
     {
-        MutableSortedSet<T> result = TreeSortedSet.newSet(comparator).asSynchronized();
-        this.forEach(CollectionAddProcedure.on(result));
-        return result;
+        Object[] sortedDistinct = this.toSortedArray(comparator, true);
+        return new TreeSortedSet<T>(ParallelSortedMerge.<T>asSortedSet(sortedDistinct, comparator));
     }
 
     public <NK, NV> MutableMap<NK, NV> toMap(
@@ -705,20 +818,61 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
             Function<? super T, ? extends NK> keyFunction,
             Function<? super T, ? extends NV> valueFunction)
     {
-        MutableSortedMap<NK, NV> sortedMap = TreeSortedMap.<NK, NV>newMap().asSynchronized();
-        this.forEach(new MapCollectProcedure<T, NK, NV>(sortedMap, keyFunction, valueFunction));
-        return sortedMap;
+        return this.toSortedMap(TreeSortedMap.<NK, NV>newMap(), null, keyFunction, valueFunction);
     }
 
     public <NK, NV> MutableSortedMap<NK, NV> toSortedMap(Comparator<? super NK> comparator,
             Function<? super T, ? extends NK> keyFunction,
             Function<? super T, ? extends NV> valueFunction)
     {
-        MutableSortedMap<NK, NV> sortedMap = TreeSortedMap.<NK, NV>newMap(comparator).asSynchronized();
-        this.forEach(new MapCollectProcedure<T, NK, NV>(sortedMap, keyFunction, valueFunction));
-        return sortedMap;
+        return this.toSortedMap(TreeSortedMap.<NK, NV>newMap(comparator), comparator, keyFunction, valueFunction);
+    }
+
+    /**
+     * Sorts the key-value pairs of each batch by key and merges them in parallel, then puts them into the map in key
+     * order. Since the merge is stable, a key which occurs more than once keeps the value put last, as in a serial put.
+     */
+    private <NK, NV> MutableSortedMap<NK, NV> toSortedMap(
+            MutableSortedMap<NK, NV> result,
+            Comparator<? super NK> comparator,
+            final Function<? super T, ? extends NK> keyFunction,
+            final Function<? super T, ? extends NV> valueFunction)
+    {
+        Comparator<? super NK> keyComparator = comparator;
+        if (keyComparator == null)
+        {
+            keyComparator = Comparators.<NK>naturalOrder();
+        }
+        final Comparator<Pair<NK, ?>> pairComparator = Comparators.<NK>byFirstOfPair(keyComparator);
+        Function<Batch<T>, Object[]> map = new Function<Batch<T>, Object[]>()
+        {
+            public Object[] valueOf(Batch<T> batch)
+            {
+                final FastList<Pair<NK, NV>> pairs = FastList.newList();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        pairs.add(Tuples.<NK, NV>pair(keyFunction.valueOf(each), valueFunction.valueOf(each)));
+                    }
+                });
+                return ParallelSortedMerge.sortRun(pairs.toArray(), pairComparator, false);
+            }
+        };
+        Object[] sortedPairs = this.mergeSortedRuns(map, pairComparator, false);
+        for (Object each : sortedPairs)
+        {
+            Pair<NK, NV> pair = (Pair<NK, NV>) each;
+            result.put(pair.getOne(), pair.getTwo());
+        }
+        return result;
     }
 
+    /**
+     * A non-mutating aggregator has no way to combine two partial values, so batch-local results could not be merged.
+     * Instead every batch folds straight into one concurrent map, whose updateValue is atomic per key, in a single
+     * pass without buffering the elements.
+     */
     public <K, V> MapIterable<K, V> aggregateBy(
             Function<? super T, ? extends K> groupBy,
             Function0<? extends V> zeroValueFactory,
@@ -739,6 +893,175 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return map;
     }
 
+    /**
+     * Groups each batch into its own empty copy of {@code target} and merges the batch results into {@code target}
+     * on the calling thread, in encounter order for ordered iterables.
+     */
+    protected <V, R extends MutableMultimap<V, T>> R groupByCombine(final Function<? super T, ? extends V> function, final R target)
+    {
+        Function<Batch<T>, MutableMultimap<V, T>> map = new Function<Batch<T>, MutableMultimap<V, T>>()
+        {
+            public MutableMultimap<V, T> valueOf(Batch<T> batch)
+            {
+                MutableMultimap<V, T> result = target.newEmpty();
+                batch.forEach(MultimapPutProcedure.on(result, function));
+                return result;
+            }
+        };
+        this.collectCombine(map, AbstractParallelIterable.<V, T, R>multimapPutAll(), target);
+        return target;
+    }
+
+    /**
+     * Same as {@link #groupByCombine(Function, MutableMultimap)} but for functions returning several keys.
+     */
+    protected <V, R extends MutableMultimap<V, T>> R groupByEachCombine(final Function<? super T, ? extends Iterable<V>> function, final R target)
+    {
+        Function<Batch<T>, MutableMultimap<V, T>> map = new Function<Batch<T>, MutableMultimap<V, T>>()
+        {
+            public MutableMultimap<V, T> valueOf(Batch<T> batch)
+            {
+                MutableMultimap<V, T> result = target.newEmpty();
+                batch.forEach(MultimapEachPutProcedure.on(result, function));
+                return result;
+            }
+        };
+        this.collectCombine(map, AbstractParallelIterable.<V, T, R>multimapPutAll(), target);
+        return target;
+    }
+
+    private static <V, T, R extends MutableMultimap<V, T>> Procedure2<R, MutableMultimap<V, T>> multimapPutAll()
+    {
+        return new Procedure2<R, MutableMultimap<V, T>>()
+        {
+            public void value(R accumulator, MutableMultimap<V, T> each)
+            {
+                accumulator.putAll(each);
+            }
+        };
+    }
+
+    public <V> ObjectLongMap<V> sumByInt(final Function<T, V> groupBy, final IntFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                InjectIntoProcedure<ObjectLongHashMap<V>, T> procedure =
+                        new InjectIntoProcedure<ObjectLongHashMap<V>, T>(ObjectLongHashMap.<V>newMap(), PrimitiveFunctions.sumByIntFunction(groupBy, function));
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        return this.collectCombineObjectLongMaps(map);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(final Function<T, V> groupBy, final FloatFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectDoubleHashMap<V>> map = new Function<Batch<T>, ObjectDoubleHashMap<V>>()
+        {
+            public ObjectDoubleHashMap<V> valueOf(Batch<T> batch)
+            {
+                InjectIntoProcedure<ObjectDoubleHashMap<V>, T> procedure =
+                        new InjectIntoProcedure<ObjectDoubleHashMap<V>, T>(ObjectDoubleHashMap.<V>newMap(), PrimitiveFunctions.sumByFloatFunction(groupBy, function));
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        return this.collectCombineObjectDoubleMaps(map);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(final Function<T, V> groupBy, final LongFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                InjectIntoProcedure<ObjectLongHashMap<V>, T> procedure =
+                        new InjectIntoProcedure<ObjectLongHashMap<V>, T>(ObjectLongHashMap.<V>newMap(), PrimitiveFunctions.sumByLongFunction(groupBy, function));
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        return this.collectCombineObjectLongMaps(map);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(final Function<T, V> groupBy, final DoubleFunction<? super T> function)
+    {
+        Function<Batch<T>, ObjectDoubleHashMap<V>> map = new Function<Batch<T>, ObjectDoubleHashMap<V>>()
+        {
+            public ObjectDoubleHashMap<V> valueOf(Batch<T> batch)
+            {
+                InjectIntoProcedure<ObjectDoubleHashMap<V>, T> procedure =
+                        new InjectIntoProcedure<ObjectDoubleHashMap<V>, T>(ObjectDoubleHashMap.<V>newMap(), PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
+                batch.forEach(procedure);
+                return procedure.getResult();
+            }
+        };
+        return this.collectCombineObjectDoubleMaps(map);
+    }
+
+    public <V> ObjectLongMap<V> countBy(final Function<? super T, ? extends V> function)
+    {
+        Function<Batch<T>, ObjectLongHashMap<V>> map = new Function<Batch<T>, ObjectLongHashMap<V>>()
+        {
+            public ObjectLongHashMap<V> valueOf(Batch<T> batch)
+            {
+                final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+                batch.forEach(new Procedure<T>()
+                {
+                    public void value(T each)
+                    {
+                        result.addToValue(function.valueOf(each), 1L);
+                    }
+                });
+                return result;
+            }
+        };
+        return this.collectCombineObjectLongMaps(map);
+    }
+
+    private <V> ObjectLongMap<V> collectCombineObjectLongMaps(Function<Batch<T>, ObjectLongHashMap<V>> map)
+    {
+        Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>> combineProcedure = new Procedure2<ObjectLongHashMap<V>, ObjectLongHashMap<V>>()
+        {
+            public void value(final ObjectLongHashMap<V> accumulator, ObjectLongHashMap<V> each)
+            {
+                each.forEachKeyValue(new ObjectLongProcedure<V>()
+                {
+                    public void value(V key, long value)
+                    {
+                        accumulator.addToValue(key, value);
+                    }
+                });
+            }
+        };
+        ObjectLongHashMap<V> state = ObjectLongHashMap.newMap();
+        this.collectCombineUnordered(map, combineProcedure, state);
+        return state;
+    }
+
+    private <V> ObjectDoubleMap<V> collectCombineObjectDoubleMaps(Function<Batch<T>, ObjectDoubleHashMap<V>> map)
+    {
+        Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>> combineProcedure = new Procedure2<ObjectDoubleHashMap<V>, ObjectDoubleHashMap<V>>()
+        {
+            public void value(final ObjectDoubleHashMap<V> accumulator, ObjectDoubleHashMap<V> each)
+            {
+                each.forEachKeyValue(new ObjectDoubleProcedure<V>()
+                {
+                    public void value(V key, double value)
+                    {
+                        accumulator.addToValue(key, value);
+                    }
+                });
+            }
+        };
+        ObjectDoubleHashMap<V> state = ObjectDoubleHashMap.newMap();
+        // Combining in batch order keeps floating point results reproducible for ordered iterables
+        this.collectCombine(map, combineProcedure, state);
+        return state;
+    }
+
     public int count(final Predicate<? super T> predicate)
     {
         Function<Batch<T>, Integer> map = new Function<Batch<T>, Integer>()
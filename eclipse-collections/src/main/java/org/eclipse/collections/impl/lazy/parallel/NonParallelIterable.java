@@ -12,17 +12,27 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -30,9 +40,19 @@ import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelShortIterable;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -43,6 +63,41 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         this.delegate = delegate;
     }
 
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new NonParallelByteIterable(this.delegate.asLazy().collectByte(function));
+    }
+
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new NonParallelCharIterable(this.delegate.asLazy().collectChar(function));
+    }
+
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new NonParallelDoubleIterable(this.delegate.asLazy().collectDouble(function));
+    }
+
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new NonParallelFloatIterable(this.delegate.asLazy().collectFloat(function));
+    }
+
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new NonParallelIntIterable(this.delegate.asLazy().collectInt(function));
+    }
+
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new NonParallelLongIterable(this.delegate.asLazy().collectLong(function));
+    }
+
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new NonParallelShortIterable(this.delegate.asLazy().collectShort(function));
+    }
+
     public void forEach(Procedure<? super T> procedure)
     {
         this.delegate.forEach(procedure);
@@ -248,6 +303,39 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.sumOfDouble(function);
     }
 
+    public <V> ObjectLongMap<V> sumByInt(Function<T, V> groupBy, IntFunction<? super T> function)
+    {
+        return this.delegate.sumByInt(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByFloat(Function<T, V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.delegate.sumByFloat(groupBy, function);
+    }
+
+    public <V> ObjectLongMap<V> sumByLong(Function<T, V> groupBy, LongFunction<? super T> function)
+    {
+        return this.delegate.sumByLong(groupBy, function);
+    }
+
+    public <V> ObjectDoubleMap<V> sumByDouble(Function<T, V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.delegate.sumByDouble(groupBy, function);
+    }
+
+    public <V> ObjectLongMap<V> countBy(final Function<? super T, ? extends V> function)
+    {
+        final ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        this.delegate.forEach(new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                result.addToValue(function.valueOf(each), 1L);
+            }
+        });
+        return result;
+    }
+
     @Override
     public String toString()
     {
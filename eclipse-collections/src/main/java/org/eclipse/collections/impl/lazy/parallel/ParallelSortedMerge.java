@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * Sorts the batches of a parallel iterable into runs and merges the runs pairwise on the executor, so that the sorted
+ * materializations of {@link AbstractParallelIterable} neither funnel every element through one lock nor sort the
+ * whole result on one thread. Merges prefer the left run on ties, so merging runs which are in batch order is stable.
+ */
+final class ParallelSortedMerge
+{
+    private static final Object[] EMPTY_ARRAY = {};
+
+    private ParallelSortedMerge()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Sorts the run in place and, if {@code distinct} is true, keeps only the first of each group of equal elements.
+     */
+    public static Object[] sortRun(Object[] run, Comparator<?> comparator, boolean distinct)
+    {
+        Comparator<Object> nonNullComparator = ParallelSortedMerge.nonNullComparator(comparator);
+        Arrays.sort(run, nonNullComparator);
+        if (!distinct || run.length < 2)
+        {
+            return run;
+        }
+        int size = 1;
+        for (int i = 1; i < run.length; i++)
+        {
+            if (nonNullComparator.compare(run[size - 1], run[i]) != 0)
+            {
+                run[size++] = run[i];
+            }
+        }
+        return size == run.length ? run : ParallelSortedMerge.copyOf(run, size);
+    }
+
+    /**
+     * Merges adjacent pairs of runs in parallel until one run is left. Each round halves the number of runs, so the
+     * merge takes about log2(runs) rounds and every element is copied once per round.
+     */
+    public static Object[] merge(ExecutorService executorService, MutableList<Object[]> runs, Comparator<?> comparator, final boolean distinct)
+    {
+        final Comparator<Object> nonNullComparator = ParallelSortedMerge.nonNullComparator(comparator);
+        MutableList<Object[]> remaining = runs;
+        while (remaining.size() > 1)
+        {
+            MutableList<Future<Object[]>> futures = FastList.newList((remaining.size() + 1) / 2);
+            for (int i = 0; i < remaining.size(); i += 2)
+            {
+                final Object[] left = remaining.get(i);
+                final Object[] right = i + 1 < remaining.size() ? remaining.get(i + 1) : EMPTY_ARRAY;
+                futures.add(executorService.submit(new Callable<Object[]>()
+                {
+                    public Object[] call()
+                    {
+                        return ParallelSortedMerge.mergeTwo(left, right, nonNullComparator, distinct);
+                    }
+                }));
+            }
+            MutableList<Object[]> merged = FastList.newList(futures.size());
+            for (Future<Object[]> future : futures)
+            {
+                try
+                {
+                    merged.add(future.get());
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                catch (ExecutionException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            remaining = merged;
+        }
+        return remaining.isEmpty() ? EMPTY_ARRAY : remaining.getFirst();
+    }
+
+    /**
+     * Returns a read-only sorted set over a sorted array of distinct elements. Building a
+     * {@link java.util.TreeSet} from it takes linear time, because the tree can be built straight from the sorted
+     * iteration order.
+     */
+    public static <T> SortedSet<T> asSortedSet(Object[] sortedDistinct, Comparator<? super T> comparator)
+    {
+        return new SortedArraySet<T>(sortedDistinct, comparator);
+    }
+
+    private static Object[] mergeTwo(Object[] left, Object[] right, Comparator<Object> comparator, boolean distinct)
+    {
+        if (right.length == 0)
+        {
+            return left;
+        }
+        Object[] result = new Object[left.length + right.length];
+        int leftIndex = 0;
+        int rightIndex = 0;
+        int size = 0;
+        while (leftIndex < left.length && rightIndex < right.length)
+        {
+            int compare = comparator.compare(left[leftIndex], right[rightIndex]);
+            if (compare <= 0)
+            {
+                result[size++] = left[leftIndex++];
+                if (compare == 0 && distinct)
+                {
+                    rightIndex++;
+                }
+            }
+            else
+            {
+                result[size++] = right[rightIndex++];
+            }
+        }
+        System.arraycopy(left, leftIndex, result, size, left.length - leftIndex);
+        size += left.length - leftIndex;
+        System.arraycopy(right, rightIndex, result, size, right.length - rightIndex);
+        size += right.length - rightIndex;
+        return size == result.length ? result : ParallelSortedMerge.copyOf(result, size);
+    }
+
+    private static Object[] copyOf(Object[] array, int size)
+    {
+        Object[] result = new Object[size];
+        System.arraycopy(array, 0, result, 0, size);
+        return result;
+    }
+
+    private static Comparator<Object> nonNullComparator(Comparator<?> comparator)
+    {
+        return comparator == null ? Comparators.naturalOrder() : (Comparator<Object>) comparator;
+    }
+
+    /**
+     * A read-only sorted set over the range {@code [from, to)} of a sorted array of distinct elements. Lookups and
+     * range views use a binary search over the array. Unlike {@link java.util.TreeSet}, a range view accepts bounds
+     * outside its own range and clips them to it.
+     */
+    private static final class SortedArraySet<T> extends AbstractSet<T> implements SortedSet<T>
+    {
+        private final T[] elements;
+        private final Comparator<? super T> comparator;
+        private final Comparator<Object> nonNullComparator;
+        private final int from;
+        private final int to;
+
+        /**
+         * The range of a view, as in {@link java.util.TreeSet#subSet}: keys from {@code lowKey} inclusive up to
+         * {@code highKey} exclusive, with no bound on a side whose flag is false.
+         */
+        private final boolean hasLowKey;
+        private final T lowKey;
+        private final boolean hasHighKey;
+        private final T highKey;
+
+        private SortedArraySet(Object[] elements, Comparator<? super T> comparator)
+        {
+            this((T[]) elements, comparator, ParallelSortedMerge.nonNullComparator(comparator), 0, elements.length, false, null, false, null);
+        }
+
+        private SortedArraySet(
+                T[] elements,
+                Comparator<? super T> comparator,
+                Comparator<Object> nonNullComparator,
+                int from,
+                int to,
+                boolean hasLowKey,
+                T lowKey,
+                boolean hasHighKey,
+                T highKey)
+        {
+            this.elements = elements;
+            this.comparator = comparator;
+            this.nonNullComparator = nonNullComparator;
+            this.from = from;
+            this.to = to;
+            this.hasLowKey = hasLowKey;
+            this.lowKey = lowKey;
+            this.hasHighKey = hasHighKey;
+            this.highKey = highKey;
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return Arrays.asList(this.elements).subList(this.from, this.to).iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return this.to - this.from;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            int index = this.lowerBound(o);
+            return index < this.to && this.nonNullComparator.compare(this.elements[index], o) == 0;
+        }
+
+        public Comparator<? super T> comparator()
+        {
+            return this.comparator;
+        }
+
+        public T first()
+        {
+            if (this.isEmpty())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.elements[this.from];
+        }
+
+        public T last()
+        {
+            if (this.isEmpty())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.elements[this.to - 1];
+        }
+
+        public SortedSet<T> subSet(T fromElement, T toElement)
+        {
+            if (this.nonNullComparator.compare(fromElement, toElement) > 0)
+            {
+                throw new IllegalArgumentException("fromElement is greater than toElement");
+            }
+            this.checkFromElement(fromElement);
+            this.checkToElement(toElement);
+            return this.view(true, fromElement, true, toElement);
+        }
+
+        public SortedSet<T> headSet(T toElement)
+        {
+            this.checkToElement(toElement);
+            return this.view(this.hasLowKey, this.lowKey, true, toElement);
+        }
+
+        public SortedSet<T> tailSet(T fromElement)
+        {
+            this.checkFromElement(fromElement);
+            return this.view(true, fromElement, this.hasHighKey, this.highKey);
+        }
+
+        private SortedSet<T> view(boolean hasNewLowKey, T newLowKey, boolean hasNewHighKey, T newHighKey)
+        {
+            int newFrom = hasNewLowKey ? this.lowerBound(newLowKey) : this.from;
+            int newTo = hasNewHighKey ? this.lowerBound(newHighKey) : this.to;
+            return new SortedArraySet<T>(
+                    this.elements,
+                    this.comparator,
+                    this.nonNullComparator,
+                    newFrom,
+                    newTo,
+                    hasNewLowKey,
+                    newLowKey,
+                    hasNewHighKey,
+                    newHighKey);
+        }
+
+        /**
+         * A new lower bound has to lie in {@code [lowKey, highKey)}.
+         */
+        private void checkFromElement(T fromElement)
+        {
+            if (this.hasLowKey && this.nonNullComparator.compare(fromElement, this.lowKey) < 0
+                    || this.hasHighKey && this.nonNullComparator.compare(fromElement, this.highKey) >= 0)
+            {
+                throw new IllegalArgumentException("fromElement out of range: " + fromElement);
+            }
+        }
+
+        /**
+         * A new upper bound has to lie in {@code [lowKey, highKey]}, since it is exclusive.
+         */
+        private void checkToElement(T toElement)
+        {
+            if (this.hasLowKey && this.nonNullComparator.compare(toElement, this.lowKey) < 0
+                    || this.hasHighKey && this.nonNullComparator.compare(toElement, this.highKey) > 0)
+            {
+                throw new IllegalArgumentException("toElement out of range: " + toElement);
+            }
+        }
+
+        /**
+         * Returns the index of the first element in {@code [from, to)} which is not less than {@code element}, or
+         * {@code to} if there is none.
+         */
+        private int lowerBound(Object element)
+        {
+            int low = this.from;
+            int high = this.to;
+            while (low < high)
+            {
+                int middle = (low + high) >>> 1;
+                if (this.nonNullComparator.compare(this.elements[middle], element) < 0)
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -10,6 +10,10 @@
 
 package org.eclipse.collections.impl.lazy.parallel.bag;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.ParallelUnsortedBag;
@@ -18,7 +22,7 @@ import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
-import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.multimap.bag.UnsortedBagMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
@@ -26,11 +30,47 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.BagAddOccurrencesProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
-import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
+import org.eclipse.collections.impl.lazy.parallel.ParallelDistinctIterable;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 
 @Beta
 public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelUnsortedBag<T>
 {
+    protected static <T> void forEachWithOccurrences(final AbstractParallelUnsortedBag<T, ? extends RootUnsortedBagBatch<T>> parallelBag, final ObjectIntProcedure<? super T> procedure)
+    {
+        LazyIterable<Future<?>> futures = parallelBag.split().collect(new Function<RootUnsortedBagBatch<T>, Future<?>>()
+        {
+            public Future<?> valueOf(final RootUnsortedBagBatch<T> chunk)
+            {
+                return parallelBag.getExecutorService().submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        chunk.forEachWithOccurrences(procedure);
+                    }
+                });
+            }
+        });
+        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
+        MutableList<Future<?>> futuresList = futures.toList();
+        for (Future<?> future : futuresList)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     @Override
     protected boolean isOrdered()
     {
@@ -39,7 +79,7 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
 
     public ParallelUnsortedSetIterable<T> asUnique()
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asUnique() not implemented yet");
+        return new ParallelDistinctIterable<T>(this);
     }
 
     public ParallelUnsortedBag<T> select(Predicate<? super T> predicate)
@@ -84,7 +124,7 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
 
     public <V> ParallelUnsortedBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".flatCollect() not implemented yet");
+        return new ParallelFlatCollectUnsortedBag<T, V>(this, function);
     }
 
     @Override
@@ -95,40 +135,13 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
         return result;
     }
 
-    public <V> UnsortedBagMultimap<V, T> groupBy(final Function<? super T, ? extends V> function)
+    public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        final MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
-        {
-            public void value(T each, int occurrences)
-            {
-                V key = function.valueOf(each);
-                for (int i = 0; i < occurrences; i++)
-                {
-                    result.put(key, each);
-                }
-            }
-        });
-        return result;
+        return this.groupByCombine(function, HashBagMultimap.<V, T>newMultimap());
     }
 
-    public <V> UnsortedBagMultimap<V, T> groupByEach(final Function<? super T, ? extends Iterable<V>> function)
+    public <V> UnsortedBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        final MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEachWithOccurrences(new ObjectIntProcedure<T>()
-        {
-            public void value(T each, int occurrences)
-            {
-                Iterable<V> keys = function.valueOf(each);
-                for (V key : keys)
-                {
-                    for (int i = 0; i < occurrences; i++)
-                    {
-                        result.put(key, each);
-                    }
-                }
-            }
-        });
-        return result;
+        return this.groupByEachCombine(function, HashBagMultimap.<V, T>newMultimap());
     }
 }
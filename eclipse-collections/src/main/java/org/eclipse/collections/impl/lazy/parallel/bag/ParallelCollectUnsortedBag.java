@@ -88,4 +88,18 @@ public class ParallelCollectUnsortedBag<T, V> extends AbstractParallelUnsortedBa
         T resultItem = this.parallelIterable.detect(Predicates.attributePredicate(this.function, predicate));
         return resultItem == null ? null : this.function.valueOf(resultItem);
     }
+
+    @Override
+    public Object[] toArray()
+    {
+        // TODO: Implement in parallel
+        return this.parallelIterable.toList().collect(this.function).toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array)
+    {
+        // TODO: Implement in parallel
+        return this.parallelIterable.toList().collect(this.function).toArray(array);
+    }
 }
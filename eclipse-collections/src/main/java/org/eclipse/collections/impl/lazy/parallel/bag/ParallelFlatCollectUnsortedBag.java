@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.bag;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.utility.Iterate;
+
+@Beta
+public class ParallelFlatCollectUnsortedBag<T, V> extends AbstractParallelUnsortedBag<V, UnsortedBagBatch<V>>
+{
+    private final AbstractParallelUnsortedBag<T, ? extends UnsortedBagBatch<T>> parallelIterable;
+    private final Function<? super T, ? extends Iterable<V>> function;
+
+    public ParallelFlatCollectUnsortedBag(AbstractParallelUnsortedBag<T, ? extends UnsortedBagBatch<T>> parallelIterable, Function<? super T, ? extends Iterable<V>> function)
+    {
+        this.parallelIterable = parallelIterable;
+        this.function = function;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelIterable.getExecutorService();
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.parallelIterable.getBatchSize();
+    }
+
+    @Override
+    public LazyIterable<UnsortedBagBatch<V>> split()
+    {
+        return this.parallelIterable.split().collect(new Function<UnsortedBagBatch<T>, UnsortedBagBatch<V>>()
+        {
+            public UnsortedBagBatch<V> valueOf(UnsortedBagBatch<T> eachBatch)
+            {
+                return eachBatch.flatCollect(ParallelFlatCollectUnsortedBag.this.function);
+            }
+        });
+    }
+
+    public void forEach(final Procedure<? super V> procedure)
+    {
+        this.parallelIterable.forEach(new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                Iterate.forEach(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), procedure);
+            }
+        });
+    }
+
+    public void forEachWithOccurrences(final ObjectIntProcedure<? super V> procedure)
+    {
+        this.parallelIterable.forEachWithOccurrences(new ObjectIntProcedure<T>()
+        {
+            public void value(T each, final int occurrences)
+            {
+                Iterate.forEach(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), new Procedure<V>()
+                {
+                    public void value(V eachValue)
+                    {
+                        procedure.value(eachValue, occurrences);
+                    }
+                });
+            }
+        });
+    }
+
+    public V detect(final Predicate<? super V> predicate)
+    {
+        final AtomicReference<V> result = new AtomicReference<V>();
+        this.parallelIterable.anySatisfy(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return Iterate.anySatisfy(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), new Predicate<V>()
+                {
+                    public boolean accept(V each)
+                    {
+                        if (predicate.accept(each))
+                        {
+                            result.compareAndSet(null, each);
+                            return true;
+                        }
+
+                        return false;
+                    }
+                });
+            }
+        });
+
+        return result.get();
+    }
+
+    public boolean anySatisfy(final Predicate<? super V> predicate)
+    {
+        return this.parallelIterable.anySatisfy(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return Iterate.anySatisfy(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), predicate);
+            }
+        });
+    }
+
+    public boolean allSatisfy(final Predicate<? super V> predicate)
+    {
+        return this.parallelIterable.allSatisfy(new Predicate<T>()
+        {
+            public boolean accept(T each)
+            {
+                return Iterate.allSatisfy(ParallelFlatCollectUnsortedBag.this.function.valueOf(each), predicate);
+            }
+        });
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        // TODO: Implement in parallel
+        return this.parallelIterable.toList().flatCollect(this.function).toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array)
+    {
+        // TODO: Implement in parallel
+        return this.parallelIterable.toList().flatCollect(this.function).toArray(array);
+    }
+}
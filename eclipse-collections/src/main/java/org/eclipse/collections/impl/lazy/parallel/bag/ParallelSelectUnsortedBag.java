@@ -91,6 +91,20 @@ class ParallelSelectUnsortedBag<T> extends AbstractParallelUnsortedBag<T, Unsort
         return this.parallelIterable.detect(Predicates.and(this.predicate, predicate));
     }
 
+    @Override
+    public Object[] toArray()
+    {
+        // TODO: Implement in parallel
+        return this.parallelIterable.toList().select(this.predicate).toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array)
+    {
+        // TODO: Implement in parallel
+        return this.parallelIterable.toList().select(this.predicate).toArray(array);
+    }
+
     private static final class SelectAllSatisfyPredicate<T> implements Predicate<T>
     {
         private final Predicate<? super T> left;
@@ -22,6 +22,7 @@ import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -84,14 +85,12 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
 
     public <V> ListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupBy(function);
+        return this.groupByCombine(function, FastListMultimap.<V, T>newMultimap());
     }
 
     public <V> ListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
     {
-        // TODO: Implement in parallel
-        return this.toList().groupByEach(function);
+        return this.groupByEachCombine(function, FastListMultimap.<V, T>newMultimap());
     }
 
     @Override
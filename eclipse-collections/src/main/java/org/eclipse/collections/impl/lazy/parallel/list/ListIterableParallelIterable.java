@@ -12,7 +12,9 @@ package org.eclipse.collections.impl.lazy.parallel.list;
 
 import java.util.Iterator;
 import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.annotation.Beta;
@@ -20,11 +22,14 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.parallel.ParallelRunStatistics;
 
 @Beta
 public final class ListIterableParallelIterable<T> extends AbstractParallelListIterable<T, RootListBatch<T>>
@@ -32,8 +37,14 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
     private final ListIterable<T> delegate;
     private final ExecutorService executorService;
     private final int batchSize;
+    private final boolean adaptive;
 
     public ListIterableParallelIterable(ListIterable<T> delegate, ExecutorService executorService, int batchSize)
+    {
+        this(delegate, executorService, batchSize, false);
+    }
+
+    private ListIterableParallelIterable(ListIterable<T> delegate, ExecutorService executorService, int batchSize, boolean adaptive)
     {
         if (executorService == null)
         {
@@ -50,6 +61,21 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         this.delegate = delegate;
         this.executorService = executorService;
         this.batchSize = batchSize;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Returns a parallel iterable of {@code delegate} whose batches start at a share of the whole list and shrink down
+     * to {@code minBatchSize} elements as the list is used up: the first batches get about
+     * {@code remaining / ParallelIterate.getDefaultTaskCount()} elements, so the executor works through a few large
+     * batches first and finishes on many small ones, which the threads share out evenly even when some elements are
+     * much more expensive than others.
+     *
+     * @since 7.1
+     */
+    public static <T> ListIterableParallelIterable<T> newAdaptive(ListIterable<T> delegate, ExecutorService executorService, int minBatchSize)
+    {
+        return new ListIterableParallelIterable<T>(delegate, executorService, minBatchSize, true);
     }
 
     @Override
@@ -69,6 +95,60 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
         AbstractParallelIterable.forEach(this, procedure);
     }
 
+    /**
+     * Like {@link #forEach(Procedure)}, but records the batch count and the busy and idle time of this run in
+     * {@code statistics}. Pass a separate statistics object to each run which may overlap with another one.
+     *
+     * @since 7.1
+     */
+    public void forEach(final Procedure<? super T> procedure, final ParallelRunStatistics statistics)
+    {
+        MutableList<RootListBatch<T>> batches = this.split().toList();
+        int workerCount = Math.min(ParallelIterate.getMaxThreadCount(this.executorService), batches.size());
+        statistics.runStarted(Math.max(1, workerCount));
+        MutableList<Future<?>> futures = batches.collect(new Function<RootListBatch<T>, Future<?>>()
+        {
+            public Future<?> valueOf(final RootListBatch<T> batch)
+            {
+                return ListIterableParallelIterable.this.executorService.submit(new Runnable()
+                {
+                    public void run()
+                    {
+                        long batchStartNanos = System.nanoTime();
+                        try
+                        {
+                            batch.forEach(procedure);
+                        }
+                        finally
+                        {
+                            statistics.batchCompleted(System.nanoTime() - batchStartNanos);
+                        }
+                    }
+                });
+            }
+        });
+        try
+        {
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            statistics.runCompleted();
+        }
+    }
+
     public boolean anySatisfy(Predicate<? super T> predicate)
     {
         return AbstractParallelIterable.anySatisfy(this, predicate);
@@ -132,19 +212,25 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
 
     private class ListIterableParallelBatchIterator implements Iterator<RootListBatch<T>>
     {
-        protected int chunkIndex;
+        protected int chunkStartIndex;
 
         public boolean hasNext()
         {
-            return this.chunkIndex * ListIterableParallelIterable.this.getBatchSize() < ListIterableParallelIterable.this.delegate.size();
+            return this.chunkStartIndex < ListIterableParallelIterable.this.delegate.size();
         }
 
         public RootListBatch<T> next()
         {
-            int chunkStartIndex = this.chunkIndex * ListIterableParallelIterable.this.getBatchSize();
-            int chunkEndIndex = (this.chunkIndex + 1) * ListIterableParallelIterable.this.getBatchSize();
-            int truncatedChunkEndIndex = Math.min(chunkEndIndex, ListIterableParallelIterable.this.delegate.size());
-            this.chunkIndex++;
+            int size = ListIterableParallelIterable.this.delegate.size();
+            int remaining = size - this.chunkStartIndex;
+            int chunkSize = ListIterableParallelIterable.this.getBatchSize();
+            if (ListIterableParallelIterable.this.adaptive)
+            {
+                chunkSize = Math.max(chunkSize, remaining / ParallelIterate.getDefaultTaskCount());
+            }
+            int chunkStartIndex = this.chunkStartIndex;
+            int truncatedChunkEndIndex = chunkSize >= remaining ? size : chunkStartIndex + chunkSize;
+            this.chunkStartIndex = truncatedChunkEndIndex;
             return new ListIterableBatch<T>(ListIterableParallelIterable.this.delegate, chunkStartIndex, truncatedChunkEndIndex);
         }
 
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+
+@Beta
+public abstract class AbstractMapBatch<K, V> implements MapBatch<K, V>
+{
+    public MapBatch<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        return new SelectMapBatch<K, V>(this, predicate);
+    }
+
+    public <R> MapBatch<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        return new CollectValuesMapBatch<K, V, R>(this, function);
+    }
+}
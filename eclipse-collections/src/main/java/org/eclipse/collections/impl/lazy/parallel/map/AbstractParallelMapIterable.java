@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
+import org.eclipse.collections.impl.block.factory.Predicates2;
+import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
+import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+
+/**
+ * Evaluates a {@link ParallelMapIterable} by running each {@link MapBatch} returned by {@link #split()} as a separate
+ * task on the executor service.
+ *
+ * @since 7.1
+ */
+@Beta
+public abstract class AbstractParallelMapIterable<K, V, B extends MapBatch<K, V>> implements ParallelMapIterable<K, V>
+{
+    public abstract ExecutorService getExecutorService();
+
+    public abstract int getBatchSize();
+
+    public abstract LazyIterable<B> split();
+
+    public void forEachKeyValue(final Procedure2<? super K, ? super V> procedure)
+    {
+        this.evaluateBatches(new Function<B, Object>()
+        {
+            public Object valueOf(B batch)
+            {
+                batch.forEachKeyValue(procedure);
+                return null;
+            }
+        });
+    }
+
+    public ParallelMapIterable<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        return new ParallelSelectMapIterable<K, V>(this, predicate);
+    }
+
+    public ParallelMapIterable<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.select(Predicates2.not(predicate));
+    }
+
+    public <R> ParallelMapIterable<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        return new ParallelCollectValuesMapIterable<K, V, R>(this, function);
+    }
+
+    public int count(final Predicate2<? super K, ? super V> predicate)
+    {
+        MutableList<Integer> counts = this.evaluateBatches(new Function<B, Integer>()
+        {
+            public Integer valueOf(B batch)
+            {
+                final int[] count = new int[1];
+                batch.forEachKeyValue(new Procedure2<K, V>()
+                {
+                    public void value(K key, V value)
+                    {
+                        if (predicate.accept(key, value))
+                        {
+                            count[0]++;
+                        }
+                    }
+                });
+                return count[0];
+            }
+        });
+        int result = 0;
+        for (Integer count : counts)
+        {
+            result += count;
+        }
+        return result;
+    }
+
+    /**
+     * Folds every batch straight into one concurrent map, the same way
+     * {@link org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable#aggregateBy(Function, Function0, Function2)}
+     * does, since the aggregator cannot combine the partial values of two batch-local maps.
+     */
+    public <KK, VV> MapIterable<KK, VV> aggregateBy(
+            Function<? super V, ? extends KK> groupBy,
+            Function0<? extends VV> zeroValueFactory,
+            Function2<? super VV, ? super V, ? extends VV> nonMutatingAggregator)
+    {
+        MutableMap<KK, VV> map = ConcurrentHashMapUnsafe.newMap();
+        this.forEachKeyValue(new ValueProcedure<V>(new NonMutatingAggregationProcedure<V, KK, VV>(map, groupBy, zeroValueFactory, nonMutatingAggregator)));
+        return map;
+    }
+
+    public <KK, VV> MapIterable<KK, VV> aggregateInPlaceBy(
+            Function<? super V, ? extends KK> groupBy,
+            Function0<? extends VV> zeroValueFactory,
+            Procedure2<? super VV, ? super V> mutatingAggregator)
+    {
+        MutableMap<KK, VV> map = ConcurrentHashMapUnsafe.newMap();
+        this.forEachKeyValue(new ValueProcedure<V>(new MutatingAggregationProcedure<V, KK, VV>(map, groupBy, zeroValueFactory, mutatingAggregator)));
+        return map;
+    }
+
+    /**
+     * Fills a map per batch, so that no map is shared between threads, and then merges the batch maps.
+     */
+    public MutableMap<K, V> toMap()
+    {
+        MutableList<UnifiedMap<K, V>> maps = this.evaluateBatches(new Function<B, UnifiedMap<K, V>>()
+        {
+            public UnifiedMap<K, V> valueOf(B batch)
+            {
+                final UnifiedMap<K, V> map = UnifiedMap.newMap();
+                batch.forEachKeyValue(new Procedure2<K, V>()
+                {
+                    public void value(K key, V value)
+                    {
+                        map.put(key, value);
+                    }
+                });
+                return map;
+            }
+        });
+        int size = 0;
+        for (UnifiedMap<K, V> map : maps)
+        {
+            size += map.size();
+        }
+        UnifiedMap<K, V> result = UnifiedMap.newMap(size);
+        for (UnifiedMap<K, V> map : maps)
+        {
+            result.putAll(map);
+        }
+        return result;
+    }
+
+    private <R> MutableList<R> evaluateBatches(final Function<B, R> function)
+    {
+        LazyIterable<Future<R>> futures = this.split().collect(new Function<B, Future<R>>()
+        {
+            public Future<R> valueOf(final B batch)
+            {
+                return AbstractParallelMapIterable.this.getExecutorService().submit(new Callable<R>()
+                {
+                    public R call()
+                    {
+                        return function.valueOf(batch);
+                    }
+                });
+            }
+        });
+        // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
+        MutableList<Future<R>> futuresList = futures.toList();
+        MutableList<R> results = futuresList.collect(new Function<Future<R>, R>()
+        {
+            public R valueOf(Future<R> future)
+            {
+                try
+                {
+                    return future.get();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                catch (ExecutionException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        return results;
+    }
+
+    private static final class ValueProcedure<V> implements Procedure2<Object, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Procedure<? super V> procedure;
+
+        private ValueProcedure(Procedure<? super V> procedure)
+        {
+            this.procedure = procedure;
+        }
+
+        public void value(Object key, V value)
+        {
+            this.procedure.value(value);
+        }
+    }
+}
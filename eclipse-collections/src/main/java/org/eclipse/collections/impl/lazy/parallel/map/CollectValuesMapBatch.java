@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+@Beta
+public class CollectValuesMapBatch<K, V, R> extends AbstractMapBatch<K, R>
+{
+    private final MapBatch<K, V> mapBatch;
+    private final Function2<? super K, ? super V, ? extends R> function;
+
+    public CollectValuesMapBatch(MapBatch<K, V> mapBatch, Function2<? super K, ? super V, ? extends R> function)
+    {
+        this.mapBatch = mapBatch;
+        this.function = function;
+    }
+
+    public void forEachKeyValue(final Procedure2<? super K, ? super R> procedure)
+    {
+        this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                procedure.value(key, CollectValuesMapBatch.this.function.value(key, value));
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+/**
+ * A section of a map's key-value pairs which one thread of a {@link AbstractParallelMapIterable} evaluates.
+ *
+ * @since 7.1
+ */
+@Beta
+public interface MapBatch<K, V>
+{
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    MapBatch<K, V> select(Predicate2<? super K, ? super V> predicate);
+
+    <R> MapBatch<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+
+@Beta
+class ParallelCollectValuesMapIterable<K, V, R> extends AbstractParallelMapIterable<K, R, MapBatch<K, R>>
+{
+    private final AbstractParallelMapIterable<K, V, ? extends MapBatch<K, V>> parallelIterable;
+    private final Function2<? super K, ? super V, ? extends R> function;
+
+    ParallelCollectValuesMapIterable(AbstractParallelMapIterable<K, V, ? extends MapBatch<K, V>> parallelIterable, Function2<? super K, ? super V, ? extends R> function)
+    {
+        this.parallelIterable = parallelIterable;
+        this.function = function;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelIterable.getExecutorService();
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.parallelIterable.getBatchSize();
+    }
+
+    @Override
+    public LazyIterable<MapBatch<K, R>> split()
+    {
+        return this.parallelIterable.split().collect(new Function<MapBatch<K, V>, MapBatch<K, R>>()
+        {
+            public MapBatch<K, R> valueOf(MapBatch<K, V> eachBatch)
+            {
+                return eachBatch.collectValues(ParallelCollectValuesMapIterable.this.function);
+            }
+        });
+    }
+}
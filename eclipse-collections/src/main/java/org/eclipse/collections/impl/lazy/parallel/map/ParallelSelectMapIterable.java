@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+
+@Beta
+class ParallelSelectMapIterable<K, V> extends AbstractParallelMapIterable<K, V, MapBatch<K, V>>
+{
+    private final AbstractParallelMapIterable<K, V, ? extends MapBatch<K, V>> parallelIterable;
+    private final Predicate2<? super K, ? super V> predicate;
+
+    ParallelSelectMapIterable(AbstractParallelMapIterable<K, V, ? extends MapBatch<K, V>> parallelIterable, Predicate2<? super K, ? super V> predicate)
+    {
+        this.parallelIterable = parallelIterable;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelIterable.getExecutorService();
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.parallelIterable.getBatchSize();
+    }
+
+    @Override
+    public LazyIterable<MapBatch<K, V>> split()
+    {
+        return this.parallelIterable.split().collect(new Function<MapBatch<K, V>, MapBatch<K, V>>()
+        {
+            public MapBatch<K, V> valueOf(MapBatch<K, V> eachBatch)
+            {
+                return eachBatch.select(ParallelSelectMapIterable.this.predicate);
+            }
+        });
+    }
+}
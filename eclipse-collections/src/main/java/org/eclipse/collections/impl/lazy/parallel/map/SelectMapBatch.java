@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+@Beta
+public class SelectMapBatch<K, V> extends AbstractMapBatch<K, V>
+{
+    private final MapBatch<K, V> mapBatch;
+    private final Predicate2<? super K, ? super V> predicate;
+
+    public SelectMapBatch(MapBatch<K, V> mapBatch, Predicate2<? super K, ? super V> predicate)
+    {
+        this.mapBatch = mapBatch;
+        this.predicate = predicate;
+    }
+
+    public void forEachKeyValue(final Procedure2<? super K, ? super V> procedure)
+    {
+        this.mapBatch.forEachKeyValue(new Procedure2<K, V>()
+        {
+            public void value(K key, V value)
+            {
+                if (SelectMapBatch.this.predicate.accept(key, value))
+                {
+                    procedure.value(key, value);
+                }
+            }
+        });
+    }
+}
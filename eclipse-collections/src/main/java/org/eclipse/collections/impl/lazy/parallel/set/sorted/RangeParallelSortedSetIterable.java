@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.set.sorted;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.list.ListBatch;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A ParallelSortedSetIterable over a {@link SortedSet} which cannot be indexed, such as a {@link java.util.TreeSet}.
+ * The set is split into ranges of {@code batchSize} elements, and each batch iterates its range through
+ * {@link SortedSet#subSet(Object, Object)}, so no elements are copied. Finding the range boundaries takes one walk
+ * over the set on the calling thread, but batches are handed to the executor as soon as their boundaries are known.
+ * Results which keep the encounter order, like toList(), are in the order of the set.
+ * <p>
+ * The set must not be modified while it is evaluated.
+ *
+ * @since 7.1
+ */
+@Beta
+public class RangeParallelSortedSetIterable<T> extends AbstractParallelSortedSetIterable<T, RootSortedSetBatch<T>>
+{
+    private final SortedSet<T> sortedSet;
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    public RangeParallelSortedSetIterable(SortedSet<T> sortedSet, ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.sortedSet = sortedSet;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    public Comparator<? super T> comparator()
+    {
+        return this.sortedSet.comparator();
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public LazyIterable<RootSortedSetBatch<T>> split()
+    {
+        return new SubSetBatchLazyIterable();
+    }
+
+    public void forEach(Procedure<? super T> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    public T detect(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.sortedSet.toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array)
+    {
+        return this.sortedSet.toArray(array);
+    }
+
+    private final class SubSetBatchIterator implements Iterator<RootSortedSetBatch<T>>
+    {
+        private final Iterator<T> iterator = RangeParallelSortedSetIterable.this.sortedSet.iterator();
+        private boolean hasNextStart = this.iterator.hasNext();
+        private T nextStart = this.hasNextStart ? this.iterator.next() : null;
+
+        public boolean hasNext()
+        {
+            return this.hasNextStart;
+        }
+
+        public RootSortedSetBatch<T> next()
+        {
+            if (!this.hasNextStart)
+            {
+                throw new NoSuchElementException();
+            }
+            T start = this.nextStart;
+            for (int i = 1; i < RangeParallelSortedSetIterable.this.batchSize && this.iterator.hasNext(); i++)
+            {
+                this.iterator.next();
+            }
+            if (this.iterator.hasNext())
+            {
+                this.nextStart = this.iterator.next();
+                return new SubSetBatch<T>(RangeParallelSortedSetIterable.this.sortedSet.subSet(start, this.nextStart));
+            }
+            this.hasNextStart = false;
+            this.nextStart = null;
+            return new SubSetBatch<T>(RangeParallelSortedSetIterable.this.sortedSet.tailSet(start));
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private final class SubSetBatchLazyIterable extends AbstractLazyIterable<RootSortedSetBatch<T>>
+    {
+        public void each(Procedure<? super RootSortedSetBatch<T>> procedure)
+        {
+            for (RootSortedSetBatch<T> chunk : this)
+            {
+                procedure.value(chunk);
+            }
+        }
+
+        public Iterator<RootSortedSetBatch<T>> iterator()
+        {
+            return new SubSetBatchIterator();
+        }
+    }
+
+    private static final class SubSetBatch<T> extends AbstractBatch<T> implements RootSortedSetBatch<T>
+    {
+        private final SortedSet<T> subSet;
+
+        private SubSetBatch(SortedSet<T> subSet)
+        {
+            this.subSet = subSet;
+        }
+
+        public void forEach(Procedure<? super T> procedure)
+        {
+            for (T each : this.subSet)
+            {
+                procedure.value(each);
+            }
+        }
+
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            return Iterate.anySatisfy(this.subSet, predicate);
+        }
+
+        public boolean allSatisfy(Predicate<? super T> predicate)
+        {
+            return Iterate.allSatisfy(this.subSet, predicate);
+        }
+
+        public T detect(Predicate<? super T> predicate)
+        {
+            return Iterate.detect(this.subSet, predicate);
+        }
+
+        public SortedSetBatch<T> select(Predicate<? super T> predicate)
+        {
+            return new SelectSortedSetBatch<T>(this, predicate);
+        }
+
+        public <V> ListBatch<V> collect(Function<? super T, ? extends V> function)
+        {
+            return new CollectSortedSetBatch<T, V>(this, function);
+        }
+
+        public <V> ListBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+        {
+            return new FlatCollectSortedSetBatch<T, V>(this, function);
+        }
+
+        public SortedSetBatch<T> distinct(ConcurrentHashMap<T, Boolean> distinct)
+        {
+            return this;
+        }
+    }
+}
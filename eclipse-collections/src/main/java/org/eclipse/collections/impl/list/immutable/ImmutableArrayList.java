@@ -32,6 +32,9 @@ import org.eclipse.collections.api.partition.list.PartitionImmutableList;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.partition.list.PartitionImmutableListImpl;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -45,7 +48,7 @@ import org.eclipse.collections.impl.utility.internal.RandomAccessListIterate;
 @Immutable
 final class ImmutableArrayList<T>
         extends AbstractImmutableList<T>
-        implements Serializable, RandomAccess, BatchIterable<T>
+        implements Serializable, RandomAccess, BatchIterable<T>, MemoryMeasurable
 {
     private static final long serialVersionUID = 1L;
     private final T[] items;
@@ -316,6 +319,18 @@ final class ImmutableArrayList<T>
         return this.items.length;
     }
 
+    public MemoryUsage getMemoryUsage(MemoryLayout layout)
+    {
+        long shallowBytes = layout.shallowSizeOf(this);
+        return new MemoryUsage(
+                shallowBytes,
+                shallowBytes + layout.shallowSizeOf(this.items),
+                0L,
+                this.items.length,
+                this.items.length,
+                0);
+    }
+
     @Override
     public boolean isEmpty()
     {
@@ -81,6 +81,9 @@ import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
 import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.partition.list.PartitionFastList;
@@ -109,7 +112,7 @@ import org.eclipse.collections.impl.utility.internal.RandomAccessListIterate;
 @NotThreadSafe
 public class FastList<T>
         extends AbstractMutableList<T>
-        implements Externalizable, RandomAccess, BatchIterable<T>
+        implements Externalizable, RandomAccess, BatchIterable<T>, MemoryMeasurable
 {
     private static final long serialVersionUID = 1L;
     private static final Object[] DEFAULT_SIZED_EMPTY_ARRAY = {};
@@ -413,6 +416,18 @@ public class FastList<T>
         return false;
     }
 
+    public MemoryUsage getMemoryUsage(MemoryLayout layout)
+    {
+        long shallowBytes = layout.shallowSizeOf(this);
+        return new MemoryUsage(
+                shallowBytes,
+                shallowBytes + layout.shallowSizeOf(this.items),
+                (long) (this.items.length - this.size) * layout.getReferenceBytes(),
+                this.size,
+                this.items.length,
+                0);
+    }
+
     public void ensureCapacity(int minCapacity)
     {
         int oldCapacity = this.items.length;
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -31,6 +32,8 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -41,10 +44,17 @@ import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.procedure.MapEntryToProcedure2;
 import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.lazy.parallel.map.AbstractMapBatch;
+import org.eclipse.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import org.eclipse.collections.impl.lazy.parallel.map.MapBatch;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.statistics.HashTableMeasurable;
+import org.eclipse.collections.impl.statistics.HashTableStatistics;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.MapIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
@@ -52,7 +62,7 @@ import org.eclipse.collections.impl.utility.internal.IterableIterate;
 @SuppressWarnings({ "rawtypes", "ObjectEquality" })
 public final class ConcurrentHashMap<K, V>
         extends AbstractMutableMap<K, V>
-        implements ConcurrentMutableMap<K, V>, Externalizable
+        implements ConcurrentMutableMap<K, V>, Externalizable, HashTableMeasurable
 {
     private static final long serialVersionUID = 1L;
 
@@ -68,6 +78,7 @@ public final class ConcurrentHashMap<K, V>
 
     private static final AtomicReferenceFieldUpdater<ConcurrentHashMap, AtomicReferenceArray> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentHashMap.class, AtomicReferenceArray.class, "table");
     private static final AtomicIntegerFieldUpdater<ConcurrentHashMap> SIZE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ConcurrentHashMap.class, "size");
+    private static final AtomicIntegerFieldUpdater<ConcurrentHashMap> RESIZE_COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ConcurrentHashMap.class, "resizeCount");
     private static final Object RESIZED = new Object();
     private static final Object RESIZING = new Object();
     private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
@@ -83,6 +94,9 @@ public final class ConcurrentHashMap<K, V>
     @SuppressWarnings("UnusedDeclaration")
     private volatile int size; // updated via atomic field updater
 
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int resizeCount; // updated via atomic field updater
+
     public ConcurrentHashMap()
     {
         this(DEFAULT_INITIAL_CAPACITY);
@@ -266,6 +280,7 @@ public final class ConcurrentHashMap<K, V>
                     this.helpWithResize(src);
                 }
             }
+            RESIZE_COUNT_UPDATER.incrementAndGet(this);
         }
         else
         {
@@ -644,6 +659,71 @@ public final class ConcurrentHashMap<K, V>
         return this.size() == 0;
     }
 
+    /**
+     * Measures the table without locking it. If a resize is in progress, this helps to finish it and measures the new
+     * table instead, so the figures never mix the old and new tables, but entries which are added or removed by other
+     * threads during the call may or may not be counted.
+     */
+    public HashTableStatistics getHashTableStatistics()
+    {
+        AtomicReferenceArray currentArray = this.table;
+        ResizeContainer resizeContainer;
+        int entries;
+        long totalProbeLength;
+        int maxProbeLength;
+        int collidingBuckets;
+        do
+        {
+            resizeContainer = null;
+            entries = 0;
+            totalProbeLength = 0L;
+            maxProbeLength = 0;
+            collidingBuckets = 0;
+            for (int i = 0; i < currentArray.length() - 1; i++)
+            {
+                Object o = currentArray.get(i);
+                if (o == RESIZED || o == RESIZING)
+                {
+                    resizeContainer = (ResizeContainer) currentArray.get(currentArray.length() - 1);
+                }
+                else if (o != null)
+                {
+                    int probeLength = 0;
+                    for (Entry<K, V> e = (Entry<K, V>) o; e != null; e = e.getNext())
+                    {
+                        probeLength++;
+                        totalProbeLength += probeLength;
+                    }
+                    entries += probeLength;
+                    maxProbeLength = Math.max(maxProbeLength, probeLength);
+                    if (probeLength > 1)
+                    {
+                        collidingBuckets++;
+                    }
+                }
+            }
+            if (resizeContainer != null)
+            {
+                if (resizeContainer.isNotDone())
+                {
+                    this.helpWithResize(currentArray);
+                    resizeContainer.waitForAllResizers();
+                }
+                currentArray = resizeContainer.nextArray;
+            }
+        }
+        while (resizeContainer != null);
+        return new HashTableStatistics(
+                entries,
+                currentArray.length() - 1,
+                totalProbeLength,
+                maxProbeLength,
+                collidingBuckets,
+                0,
+                this.resizeCount,
+                0);
+    }
+
     public boolean containsKey(Object key)
     {
         return this.getEntry(key) != null;
@@ -1231,7 +1311,7 @@ public final class ConcurrentHashMap<K, V>
         }
     }
 
-    private void sequentialForEachKeyValue(Procedure2<K, V> block, AtomicReferenceArray currentArray, int start, int end)
+    private void sequentialForEachKeyValue(Procedure2<? super K, ? super V> block, AtomicReferenceArray currentArray, int start, int end)
     {
         for (int i = start; i < end; i++)
         {
@@ -2187,4 +2267,87 @@ public final class ConcurrentHashMap<K, V>
     {
         return Maps.immutable.ofMap(this);
     }
+
+    /**
+     * Returns a parallel view of the key-value pairs which splits a snapshot of the table into sections of
+     * {@code batchSize} buckets. Like {@link #parallelForEachKeyValue(List, Executor)}, evaluating it throws
+     * {@link ConcurrentModificationException} if it meets a bucket which is being resized.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new ConcurrentHashMapParallelMapIterable(executorService, batchSize);
+    }
+
+    private final class ConcurrentHashMapBatch extends AbstractMapBatch<K, V>
+    {
+        private final AtomicReferenceArray currentArray;
+        private final int start;
+        private final int end;
+
+        private ConcurrentHashMapBatch(AtomicReferenceArray currentArray, int start, int end)
+        {
+            this.currentArray = currentArray;
+            this.start = start;
+            this.end = end;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            ConcurrentHashMap.this.sequentialForEachKeyValue(procedure, this.currentArray, this.start, this.end);
+        }
+    }
+
+    private final class ConcurrentHashMapParallelMapIterable extends AbstractParallelMapIterable<K, V, MapBatch<K, V>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private ConcurrentHashMapParallelMapIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<MapBatch<K, V>> split()
+        {
+            final AtomicReferenceArray currentArray = ConcurrentHashMap.this.table;
+            // the last slot holds the resize container, not a bucket
+            final int length = currentArray.length() - 1;
+            final int sectionCount = Math.max(1, length / this.batchSize);
+            final int sectionSize = length / sectionCount;
+            return Interval.zeroTo(sectionCount - 1).collect(new Function<Integer, MapBatch<K, V>>()
+            {
+                public MapBatch<K, V> valueOf(Integer sectionIndex)
+                {
+                    int start = sectionIndex * sectionSize;
+                    int end = sectionIndex == sectionCount - 1 ? length : start + sectionSize;
+                    return new ConcurrentHashMapBatch(currentArray, start, end);
+                }
+            });
+        }
+    }
 }
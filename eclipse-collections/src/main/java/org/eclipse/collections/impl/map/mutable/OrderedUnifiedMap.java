@@ -0,0 +1,898 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * OrderedUnifiedMap is a MutableMap which iterates in insertion order. Keys and values are appended to two dense
+ * arrays, and lookups go through a separate open addressed table of ints which only stores positions in those arrays,
+ * so there is no per-entry object as in java.util.LinkedHashMap and iteration is a linear scan of the dense arrays.
+ * <p>
+ * Removing a key leaves a removed marker behind in the dense arrays so that the positions of the following entries
+ * remain valid. The markers are compacted away when the dense arrays fill up, or as soon as they make up more than
+ * half of them. Re-inserting a key that is already present keeps its original position.
+ * <p>
+ * Removing through an iterator never compacts. Any other change is allowed while iterating as long as it does not
+ * compact the dense arrays or clear the map; if it does, the iterator throws a ConcurrentModificationException.
+ *
+ * @since 7.1
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class OrderedUnifiedMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OrderedUnifiedMap.NULL_KEY";
+        }
+    };
+
+    private static final Object REMOVED_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OrderedUnifiedMap.REMOVED_KEY";
+        }
+    };
+
+    private static final int EMPTY_SLOT = 0;
+    private static final int REMOVED_SLOT = -1;
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    /**
+     * Open addressed table holding one plus the position of each entry in {@link #keys} and {@link #values}.
+     */
+    private transient int[] index;
+    private transient Object[] keys;
+    private transient Object[] values;
+
+    /**
+     * The number of positions used in the dense arrays, including the removed ones. Every index slot which is not
+     * empty was written by one of these positions, so the index always keeps an empty slot to end a probe.
+     */
+    private transient int used;
+    private transient int occupied;
+
+    /**
+     * Incremented whenever the entries move to new positions, so that iterators, which hold positions, can fail fast.
+     */
+    private transient int compactionCount;
+
+    public OrderedUnifiedMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OrderedUnifiedMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(initialCapacity);
+    }
+
+    public OrderedUnifiedMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+
+        this.putAll(map);
+    }
+
+    public OrderedUnifiedMap(Pair<K, V>... pairs)
+    {
+        this(Math.max(pairs.length, DEFAULT_INITIAL_CAPACITY));
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(
+                this,
+                Functions.<K>firstOfPair(),
+                Functions.<V>secondOfPair()));
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newMap()
+    {
+        return new OrderedUnifiedMap<K, V>();
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newMap(int size)
+    {
+        return new OrderedUnifiedMap<K, V>(size);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OrderedUnifiedMap<K, V>(map);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return new OrderedUnifiedMap<K, V>(pairs);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OrderedUnifiedMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OrderedUnifiedMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OrderedUnifiedMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> OrderedUnifiedMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new OrderedUnifiedMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public OrderedUnifiedMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public OrderedUnifiedMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public OrderedUnifiedMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public OrderedUnifiedMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public OrderedUnifiedMap<K, V> clone()
+    {
+        return new OrderedUnifiedMap<K, V>(this);
+    }
+
+    public MutableMap<K, V> newEmpty()
+    {
+        return OrderedUnifiedMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return OrderedUnifiedMap.newMap(capacity);
+    }
+
+    private void allocate(int capacity)
+    {
+        int indexLength = 4;
+        while (indexLength - (indexLength >> 2) < capacity)
+        {
+            indexLength <<= 1;
+        }
+        int entriesLength = indexLength - (indexLength >> 2);
+        this.index = new int[indexLength];
+        this.keys = new Object[entriesLength];
+        this.values = new Object[entriesLength];
+        this.used = 0;
+    }
+
+    private static int hash(Object key)
+    {
+        // Same spreading function as UnifiedMap
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private int slotOf(Object key)
+    {
+        int mask = this.index.length - 1;
+        for (int slot = OrderedUnifiedMap.hash(key) & mask; ; slot = slot + 1 & mask)
+        {
+            int entry = this.index[slot];
+            if (entry == EMPTY_SLOT)
+            {
+                return -1;
+            }
+            if (entry != REMOVED_SLOT && OrderedUnifiedMap.keyEquals(this.keys[entry - 1], key))
+            {
+                return slot;
+            }
+        }
+    }
+
+    private int slotOfPosition(int position)
+    {
+        int mask = this.index.length - 1;
+        int slot = OrderedUnifiedMap.hash(this.nonSentinel(this.keys[position])) & mask;
+        while (this.index[slot] != position + 1)
+        {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private int emptySlot(int hash)
+    {
+        int mask = this.index.length - 1;
+        int slot = hash & mask;
+        while (this.index[slot] != EMPTY_SLOT)
+        {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    public V get(Object key)
+    {
+        int slot = this.slotOf(key);
+        return slot < 0 ? null : (V) this.values[this.index[slot] - 1];
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(key) >= 0;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            if (this.keys[i] != REMOVED_KEY && OrderedUnifiedMap.nullSafeEquals(this.values[i], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V put(K key, V value)
+    {
+        int hash = OrderedUnifiedMap.hash(key);
+        int mask = this.index.length - 1;
+        int freeSlot = -1;
+        int slot = hash & mask;
+        while (true)
+        {
+            int entry = this.index[slot];
+            if (entry == EMPTY_SLOT)
+            {
+                break;
+            }
+            if (entry == REMOVED_SLOT)
+            {
+                if (freeSlot < 0)
+                {
+                    freeSlot = slot;
+                }
+            }
+            else if (OrderedUnifiedMap.keyEquals(this.keys[entry - 1], key))
+            {
+                V oldValue = (V) this.values[entry - 1];
+                this.values[entry - 1] = value;
+                return oldValue;
+            }
+            slot = slot + 1 & mask;
+        }
+
+        if (this.used == this.keys.length)
+        {
+            // Compact in place when at least half of the positions are removed, otherwise double
+            this.rehash(this.occupied > this.keys.length >> 1 ? this.keys.length << 1 : this.keys.length);
+            freeSlot = this.emptySlot(hash);
+        }
+        else if (freeSlot < 0)
+        {
+            freeSlot = slot;
+        }
+        this.index[freeSlot] = this.used + 1;
+        this.keys[this.used] = OrderedUnifiedMap.toSentinelIfNull(key);
+        this.values[this.used] = value;
+        this.used++;
+        this.occupied++;
+        return null;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        int oldUsed = this.used;
+        this.allocate(newCapacity);
+        this.compactionCount++;
+        for (int i = 0; i < oldUsed; i++)
+        {
+            Object cur = oldKeys[i];
+            if (cur != REMOVED_KEY)
+            {
+                this.index[this.emptySlot(OrderedUnifiedMap.hash(this.nonSentinel(cur)))] = this.used + 1;
+                this.keys[this.used] = cur;
+                this.values[this.used] = oldValues[i];
+                this.used++;
+            }
+        }
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public V remove(Object key)
+    {
+        int slot = this.slotOf(key);
+        if (slot < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) this.values[this.index[slot] - 1];
+        this.removeSlot(slot);
+        if (this.used - this.occupied > this.keys.length >> 1)
+        {
+            this.rehash(this.keys.length);
+        }
+        return oldValue;
+    }
+
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    /**
+     * Removes the entry referenced by the slot without compacting, so that positions held by iterators stay valid.
+     */
+    private void removeSlot(int slot)
+    {
+        int position = this.index[slot] - 1;
+        this.index[slot] = REMOVED_SLOT;
+        this.keys[position] = REMOVED_KEY;
+        this.values[position] = null;
+        this.occupied--;
+    }
+
+    public void clear()
+    {
+        if (this.used == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.index, EMPTY_SLOT);
+        Arrays.fill(this.keys, 0, this.used, null);
+        Arrays.fill(this.values, 0, this.used, null);
+        this.used = 0;
+        this.occupied = 0;
+        this.compactionCount++;
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<E, K, V>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != REMOVED_KEY)
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != REMOVED_KEY)
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            if (this.keys[i] != REMOVED_KEY)
+            {
+                procedure.value((V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public V getFirst()
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            if (this.keys[i] != REMOVED_KEY)
+            {
+                return (V) this.values[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public V getLast()
+    {
+        for (int i = this.used - 1; i >= 0; i--)
+        {
+            if (this.keys[i] != REMOVED_KEY)
+            {
+                return (V) this.values[i];
+            }
+        }
+        return null;
+    }
+
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    public Set<Map.Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != REMOVED_KEY)
+            {
+                K key = this.nonSentinel(cur);
+                Object value = this.values[i];
+                Object otherValue = other.get(key);
+                if (!OrderedUnifiedMap.nullSafeEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != REMOVED_KEY)
+            {
+                Object value = this.values[i];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        boolean first = true;
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != REMOVED_KEY)
+            {
+                if (!first)
+                {
+                    builder.append(", ");
+                }
+                first = false;
+                K key = this.nonSentinel(cur);
+                Object value = this.values[i];
+                builder.append(key == this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == this ? "(this Map)" : value);
+            }
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.keys[i];
+            if (cur != REMOVED_KEY)
+            {
+                out.writeObject(this.nonSentinel(cur));
+                out.writeObject(this.values[i]);
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(Math.max(size, DEFAULT_INITIAL_CAPACITY));
+        this.occupied = 0;
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static boolean keyEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    private static boolean nullSafeEquals(Object value, Object other)
+    {
+        return value == other || (value != null && value.equals(other));
+    }
+
+    private abstract class PositionalIterator<E> implements Iterator<E>
+    {
+        private int nextPosition;
+        private int lastPosition = -1;
+        private int expectedCompactionCount = OrderedUnifiedMap.this.compactionCount;
+
+        protected PositionalIterator()
+        {
+            this.nextPosition = this.skipRemoved(0);
+        }
+
+        private int skipRemoved(int position)
+        {
+            int result = position;
+            while (result < OrderedUnifiedMap.this.used && OrderedUnifiedMap.this.keys[result] == REMOVED_KEY)
+            {
+                result++;
+            }
+            return result;
+        }
+
+        private void checkForCompaction()
+        {
+            if (this.expectedCompactionCount != OrderedUnifiedMap.this.compactionCount)
+            {
+                throw new ConcurrentModificationException("OrderedUnifiedMap was compacted or cleared while iterating");
+            }
+        }
+
+        public boolean hasNext()
+        {
+            // Entries after the last one returned may have been removed since, without going through this iterator
+            this.nextPosition = this.skipRemoved(this.nextPosition);
+            return this.nextPosition < OrderedUnifiedMap.this.used;
+        }
+
+        public E next()
+        {
+            this.checkForCompaction();
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastPosition = this.nextPosition;
+            this.nextPosition = this.skipRemoved(this.nextPosition + 1);
+            return this.elementAt(this.lastPosition);
+        }
+
+        protected abstract E elementAt(int position);
+
+        public void remove()
+        {
+            if (this.lastPosition < 0)
+            {
+                throw new IllegalStateException();
+            }
+            this.checkForCompaction();
+            OrderedUnifiedMap.this.removeSlot(OrderedUnifiedMap.this.slotOfPosition(this.lastPosition));
+            this.lastPosition = -1;
+        }
+    }
+
+    private final class KeyIterator extends PositionalIterator<K>
+    {
+        @Override
+        protected K elementAt(int position)
+        {
+            return OrderedUnifiedMap.this.nonSentinel(OrderedUnifiedMap.this.keys[position]);
+        }
+    }
+
+    private final class ValueIterator extends PositionalIterator<V>
+    {
+        @Override
+        protected V elementAt(int position)
+        {
+            return (V) OrderedUnifiedMap.this.values[position];
+        }
+    }
+
+    private final class EntryIterator extends PositionalIterator<Map.Entry<K, V>>
+    {
+        @Override
+        protected Map.Entry<K, V> elementAt(int position)
+        {
+            return new Entry(OrderedUnifiedMap.this.nonSentinel(OrderedUnifiedMap.this.keys[position]), (V) OrderedUnifiedMap.this.values[position]);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return OrderedUnifiedMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int oldSize = OrderedUnifiedMap.this.size();
+            OrderedUnifiedMap.this.remove(key);
+            return OrderedUnifiedMap.this.size() != oldSize;
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedUnifiedMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return OrderedUnifiedMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedUnifiedMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>>
+    {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OrderedUnifiedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+            int slot = OrderedUnifiedMap.this.slotOf(entry.getKey());
+            return slot >= 0 && OrderedUnifiedMap.nullSafeEquals(OrderedUnifiedMap.this.values[OrderedUnifiedMap.this.index[slot] - 1], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            if (this.contains(object))
+            {
+                OrderedUnifiedMap.this.remove(((Map.Entry<?, ?>) object).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            OrderedUnifiedMap.this.clear();
+        }
+    }
+
+    private final class Entry implements Map.Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private Entry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        public V setValue(V value)
+        {
+            V oldValue = this.value;
+            this.value = value;
+            OrderedUnifiedMap.this.put(this.key, value);
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Map.Entry))
+            {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            return OrderedUnifiedMap.nullSafeEquals(this.key, other.getKey())
+                    && OrderedUnifiedMap.nullSafeEquals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
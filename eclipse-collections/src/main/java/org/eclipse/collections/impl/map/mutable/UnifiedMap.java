@@ -23,8 +23,11 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import net.jcip.annotations.NotThreadSafe;
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -36,6 +39,7 @@ import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
 import org.eclipse.collections.api.map.UnsortedMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Functions;
@@ -43,9 +47,19 @@ import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.factory.Maps;
 import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.lazy.parallel.map.AbstractMapBatch;
+import org.eclipse.collections.impl.lazy.parallel.map.AbstractParallelMapIterable;
+import org.eclipse.collections.impl.lazy.parallel.map.MapBatch;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.parallel.ParallelHashTableLoader;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.statistics.HashTableMeasurable;
+import org.eclipse.collections.impl.statistics.HashTableStatistics;
 import org.eclipse.collections.impl.tuple.ImmutableEntry;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -65,7 +79,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 @NotThreadSafe
 @SuppressWarnings("ObjectEquality")
 public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
-        implements Externalizable, BatchIterable<V>
+        implements Externalizable, BatchIterable<V>, MemoryMeasurable, HashTableMeasurable
 {
     protected static final Object NULL_KEY = new Object()
     {
@@ -123,6 +137,8 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
 
     protected int maxSize;
 
+    private transient int resizeCount;
+
     public UnifiedMap()
     {
         this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
@@ -845,12 +861,88 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return sizeInWords;
     }
 
+    public MemoryUsage getMemoryUsage(MemoryLayout layout)
+    {
+        long shallowBytes = layout.shallowSizeOf(this);
+        long structuralBytes = shallowBytes + layout.shallowSizeOf(this.table);
+        int emptySlots = 0;
+        int collidingBuckets = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == null)
+            {
+                emptySlots++;
+            }
+            else if (cur == CHAINED_KEY)
+            {
+                collidingBuckets++;
+                Object[] chain = (Object[]) this.table[i + 1];
+                structuralBytes += layout.shallowSizeOf(chain);
+                for (int j = 0; j < chain.length; j += 2)
+                {
+                    if (chain[j] == null)
+                    {
+                        emptySlots++;
+                    }
+                }
+            }
+        }
+        return new MemoryUsage(
+                shallowBytes,
+                structuralBytes,
+                2L * emptySlots * layout.getReferenceBytes(),
+                this.occupied,
+                this.table.length >> 1,
+                collidingBuckets);
+    }
+
+    public HashTableStatistics getHashTableStatistics()
+    {
+        long totalProbeLength = 0L;
+        int maxProbeLength = 0;
+        int collidingBuckets = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == CHAINED_KEY)
+            {
+                collidingBuckets++;
+                Object[] chain = (Object[]) this.table[i + 1];
+                for (int j = 0; j < chain.length; j += 2)
+                {
+                    if (chain[j] != null)
+                    {
+                        int probeLength = (j >> 1) + 1;
+                        totalProbeLength += probeLength;
+                        maxProbeLength = Math.max(maxProbeLength, probeLength);
+                    }
+                }
+            }
+            else if (cur != null)
+            {
+                totalProbeLength++;
+                maxProbeLength = Math.max(maxProbeLength, 1);
+            }
+        }
+        return new HashTableStatistics(
+                this.occupied,
+                this.table.length >> 1,
+                totalProbeLength,
+                maxProbeLength,
+                collidingBuckets,
+                0,
+                this.resizeCount,
+                0);
+    }
+
     protected void rehash(int newCapacity)
     {
         int oldLength = this.table.length;
         Object[] old = this.table;
         this.allocate(newCapacity);
         this.occupied = 0;
+        this.resizeCount++;
 
         for (int i = 0; i < oldLength; i += 2)
         {
@@ -1069,6 +1161,103 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    private void batchForEachKeyValue(Procedure2<? super K, ? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.table.length / sectionCount;
+        int start = sectionIndex * sectionSize;
+        int end = sectionIndex == sectionCount - 1 ? this.table.length : start + sectionSize;
+        if (start % 2 != 0)
+        {
+            start++;
+        }
+        for (int i = start; i < end; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == CHAINED_KEY)
+            {
+                this.chainedForEachEntry((Object[]) this.table[i + 1], procedure);
+            }
+            else if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.table[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Returns a parallel view of the key-value pairs which splits the table into the same sections as
+     * {@link #batchForEach(Procedure, int, int)}, so that no pair is copied before it is evaluated.
+     *
+     * @since 7.1
+     */
+    @Beta
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        return new UnifiedMapParallelMapIterable(executorService, batchSize);
+    }
+
+    private final class UnifiedMapBatch extends AbstractMapBatch<K, V>
+    {
+        private final int sectionIndex;
+        private final int sectionCount;
+
+        private UnifiedMapBatch(int sectionIndex, int sectionCount)
+        {
+            this.sectionIndex = sectionIndex;
+            this.sectionCount = sectionCount;
+        }
+
+        public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            UnifiedMap.this.batchForEachKeyValue(procedure, this.sectionIndex, this.sectionCount);
+        }
+    }
+
+    private final class UnifiedMapParallelMapIterable extends AbstractParallelMapIterable<K, V, MapBatch<K, V>>
+    {
+        private final ExecutorService executorService;
+        private final int batchSize;
+
+        private UnifiedMapParallelMapIterable(ExecutorService executorService, int batchSize)
+        {
+            this.executorService = executorService;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public ExecutorService getExecutorService()
+        {
+            return this.executorService;
+        }
+
+        @Override
+        public int getBatchSize()
+        {
+            return this.batchSize;
+        }
+
+        @Override
+        public LazyIterable<MapBatch<K, V>> split()
+        {
+            final int sectionCount = UnifiedMap.this.getBatchCount(this.batchSize);
+            return Interval.zeroTo(sectionCount - 1).collect(new Function<Integer, MapBatch<K, V>>()
+            {
+                public MapBatch<K, V> valueOf(Integer sectionIndex)
+                {
+                    return new UnifiedMapBatch(sectionIndex, sectionCount);
+                }
+            });
+        }
+    }
+
     @Override
     public void forEachKey(Procedure<? super K> procedure)
     {
@@ -1163,6 +1352,113 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    /**
+     * Copies the mappings of {@code map} into this map like {@link #putAll(Map)}, using the threads of
+     * {@code executorService} to fill the table. The table is resized once for the combined size up front and split into
+     * ranges of slots by the high bits of their index, and each thread puts only the keys which hash into its own
+     * range, so the threads never write to the same slot. The mappings are put in iteration order within each range, so
+     * a key which is already present takes the value from {@code map}, as it would with {@link #putAll(Map)}.
+     *
+     * @see ParallelHashTableLoader
+     * @since 7.1
+     */
+    public void parallelPutAll(Map<? extends K, ? extends V> map, ExecutorService executorService)
+    {
+        int size = map.size();
+        final Object[] keys = new Object[size];
+        final Object[] values = new Object[size];
+        int i = 0;
+        for (Entry<? extends K, ? extends V> entry : this.getEntrySetFrom(map))
+        {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        this.ensureCapacity(this.occupied + size);
+        ParallelHashTableLoader loader = new ParallelHashTableLoader(size, this.table.length >> 1)
+        {
+            @Override
+            protected int slotOf(int position)
+            {
+                return UnifiedMap.this.index(keys[position]) >> 1;
+            }
+
+            @Override
+            protected boolean insert(int position, int slot)
+            {
+                return UnifiedMap.this.putToSlot((K) keys[position], (V) values[position], slot << 1);
+            }
+        };
+        this.occupied += loader.load(executorService);
+    }
+
+    private void ensureCapacity(int size)
+    {
+        if (size > this.maxSize)
+        {
+            size = (int) (size / this.loadFactor) + 1;
+            int capacity = Integer.highestOneBit(size);
+            if (size != capacity)
+            {
+                capacity <<= 1;
+            }
+            this.rehash(capacity);
+        }
+    }
+
+    /**
+     * Puts {@code key} into the slot at {@code index} without updating {@link #occupied} or resizing the table, so
+     * that different slots can be filled from different threads. Returns true if the key was not already present.
+     */
+    private boolean putToSlot(K key, V value, int index)
+    {
+        Object realKey = UnifiedMap.toSentinelIfNull(key);
+        Object cur = this.table[index];
+        if (cur == null)
+        {
+            this.table[index] = realKey;
+            this.table[index + 1] = value;
+            return true;
+        }
+        if (cur != CHAINED_KEY)
+        {
+            if (this.nonNullTableObjectEquals(cur, key))
+            {
+                this.table[index + 1] = value;
+                return false;
+            }
+            Object[] newChain = new Object[4];
+            newChain[0] = cur;
+            newChain[1] = this.table[index + 1];
+            newChain[2] = realKey;
+            newChain[3] = value;
+            this.table[index] = CHAINED_KEY;
+            this.table[index + 1] = newChain;
+            return true;
+        }
+        Object[] chain = (Object[]) this.table[index + 1];
+        for (int i = 0; i < chain.length; i += 2)
+        {
+            if (chain[i] == null)
+            {
+                chain[i] = realKey;
+                chain[i + 1] = value;
+                return true;
+            }
+            if (this.nonNullTableObjectEquals(chain[i], key))
+            {
+                chain[i + 1] = value;
+                return false;
+            }
+        }
+        Object[] newChain = new Object[chain.length + 4];
+        System.arraycopy(chain, 0, newChain, 0, chain.length);
+        newChain[chain.length] = realKey;
+        newChain[chain.length + 1] = value;
+        this.table[index + 1] = newChain;
+        return true;
+    }
+
     private Set<? extends Entry<? extends K, ? extends V>> getEntrySetFrom(Map<? extends K, ? extends V> map)
     {
         Set<? extends Entry<? extends K, ? extends V>> entries = map.entrySet();
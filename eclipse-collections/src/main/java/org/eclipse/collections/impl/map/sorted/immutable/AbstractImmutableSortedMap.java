@@ -109,6 +109,16 @@ public abstract class AbstractImmutableSortedMap<K, V>
         return this;
     }
 
+    public ImmutableList<V> getAll(Iterable<? extends K> keys)
+    {
+        FastList<V> result = FastList.newList();
+        for (K key : keys)
+        {
+            result.add(this.get(key));
+        }
+        return result.toImmutable();
+    }
+
     public Iterator<V> iterator()
     {
         return this.valuesView().iterator();
@@ -13,7 +13,6 @@ package org.eclipse.collections.impl.map.sorted.immutable;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.AbstractSet;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -25,6 +24,7 @@ import java.util.SortedMap;
 import net.jcip.annotations.Immutable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
@@ -40,6 +40,7 @@ import org.eclipse.collections.impl.tuple.ImmutableEntry;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.MapIterate;
+import org.eclipse.collections.impl.utility.internal.SortedArrayIndex;
 
 /**
  * @see ImmutableSortedMap
@@ -52,6 +53,7 @@ public class ImmutableTreeMap<K, V>
     private final K[] keys;
     private final V[] values;
     private final Comparator<? super K> comparator;
+    private final SortedArrayIndex<K> index;
 
     public ImmutableTreeMap(SortedMap<K, V> sortedMap)
     {
@@ -71,6 +73,7 @@ public class ImmutableTreeMap<K, V>
         }
         this.keys = keysCopy;
         this.values = valuesCopy;
+        this.index = new SortedArrayIndex<K>(this.keys, this.comparator);
     }
 
     public static <K, V> ImmutableSortedMap<K, V> newMap(SortedMap<K, V> sortedMap)
@@ -150,7 +153,7 @@ public class ImmutableTreeMap<K, V>
 
     public boolean containsKey(Object key)
     {
-        return Arrays.binarySearch(this.keys, (K) key, this.comparator) >= 0;
+        return this.index.binarySearch(key) >= 0;
     }
 
     public boolean containsValue(Object value)
@@ -160,14 +163,40 @@ public class ImmutableTreeMap<K, V>
 
     public V get(Object key)
     {
-        int index = Arrays.binarySearch(this.keys, (K) key, this.comparator);
-        if (index >= 0)
+        int position = this.index.binarySearch(key);
+        if (position >= 0)
         {
-            return this.values[index];
+            return this.values[position];
         }
         return null;
     }
 
+    @Override
+    public ImmutableList<V> getAll(Iterable<? extends K> keys)
+    {
+        if (!SortedArrayIndex.isSortedBy(keys, this.comparator))
+        {
+            return super.getAll(keys);
+        }
+        FastList<V> result = FastList.newList();
+        int fromIndex = 0;
+        for (K key : keys)
+        {
+            int position = this.index.binarySearchFrom(fromIndex, key);
+            if (position >= 0)
+            {
+                result.add(this.values[position]);
+                fromIndex = position + 1;
+            }
+            else
+            {
+                result.add(null);
+                fromIndex = -(position + 1);
+            }
+        }
+        return result.toImmutable();
+    }
+
     public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
     {
         for (int index = 0; index < this.keys.length; index++)
@@ -331,7 +360,21 @@ public class ImmutableTreeMap<K, V>
         @Override
         public boolean containsAll(Collection<?> collection)
         {
-            return Iterate.allSatisfyWith(collection, Predicates2.in(), this);
+            if (!SortedArrayIndex.isSortedBy(collection, ImmutableTreeMap.this.comparator))
+            {
+                return Iterate.allSatisfyWith(collection, Predicates2.in(), this);
+            }
+            int fromIndex = 0;
+            for (Object each : collection)
+            {
+                int position = ImmutableTreeMap.this.index.binarySearchFrom(fromIndex, each);
+                if (position < 0)
+                {
+                    return false;
+                }
+                fromIndex = position + 1;
+            }
+            return true;
         }
 
         @Override
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.memory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * The sizes a JVM uses to lay out objects and arrays on the heap. Instances are sized as the header plus the sum of
+ * their non-static fields, and arrays as the header plus their elements, both rounded up to 8 bytes. This matches
+ * HotSpot for the common case; it can be off by a few bytes for classes whose fields HotSpot pads between the fields
+ * of a superclass and a subclass.
+ *
+ * @since 7.1
+ */
+public final class MemoryLayout
+{
+    /**
+     * A 64 bit HotSpot VM with compressed references, which is the default for heaps smaller than 32 GB.
+     */
+    public static final MemoryLayout COMPRESSED_OOPS = new MemoryLayout(12, 16, 4);
+
+    /**
+     * A 64 bit HotSpot VM without compressed references.
+     */
+    public static final MemoryLayout UNCOMPRESSED_OOPS = new MemoryLayout(16, 24, 8);
+
+    private static final int ALIGNMENT = 8;
+
+    private final int objectHeaderBytes;
+    private final int arrayHeaderBytes;
+    private final int referenceBytes;
+    private final ConcurrentHashMap<Class<?>, Long> instanceSizes = ConcurrentHashMap.newMap();
+
+    public MemoryLayout(int objectHeaderBytes, int arrayHeaderBytes, int referenceBytes)
+    {
+        this.objectHeaderBytes = objectHeaderBytes;
+        this.arrayHeaderBytes = arrayHeaderBytes;
+        this.referenceBytes = referenceBytes;
+    }
+
+    public int getReferenceBytes()
+    {
+        return this.referenceBytes;
+    }
+
+    /**
+     * Returns the bytes used by {@code object} itself, not counting the objects it refers to, or 0 if it is null.
+     */
+    public long shallowSizeOf(Object object)
+    {
+        if (object == null)
+        {
+            return 0L;
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray())
+        {
+            return this.align(this.arrayHeaderBytes + (long) Array.getLength(object) * this.elementSizeOf(object));
+        }
+        return this.instanceSizeOf(type);
+    }
+
+    /**
+     * Returns the bytes used by each element of {@code array}.
+     */
+    public int elementSizeOf(Object array)
+    {
+        return this.sizeOf(array.getClass().getComponentType());
+    }
+
+    /**
+     * Returns the bytes used by an instance of {@code type}.
+     */
+    public long instanceSizeOf(Class<?> type)
+    {
+        return this.instanceSizes.getIfAbsentPutWith(type, new Function<Class<?>, Long>()
+        {
+            public Long valueOf(Class<?> each)
+            {
+                long bytes = MemoryLayout.this.objectHeaderBytes;
+                for (Class<?> current = each; current != null; current = current.getSuperclass())
+                {
+                    for (Field field : current.getDeclaredFields())
+                    {
+                        if (!Modifier.isStatic(field.getModifiers()))
+                        {
+                            bytes += MemoryLayout.this.sizeOf(field.getType());
+                        }
+                    }
+                }
+                return MemoryLayout.this.align(bytes);
+            }
+        }, type);
+    }
+
+    private int sizeOf(Class<?> type)
+    {
+        if (!type.isPrimitive())
+        {
+            return this.referenceBytes;
+        }
+        if (type == long.class || type == double.class)
+        {
+            return 8;
+        }
+        if (type == int.class || type == float.class)
+        {
+            return 4;
+        }
+        if (type == short.class || type == char.class)
+        {
+            return 2;
+        }
+        return 1;
+    }
+
+    private long align(long bytes)
+    {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MemoryLayout{objectHeaderBytes=" + this.objectHeaderBytes
+                + ", arrayHeaderBytes=" + this.arrayHeaderBytes
+                + ", referenceBytes=" + this.referenceBytes + '}';
+    }
+}
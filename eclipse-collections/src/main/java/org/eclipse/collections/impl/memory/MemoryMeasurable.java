@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.memory;
+
+/**
+ * Implemented by collections which can report the heap used by their internal structure. The figures are computed
+ * by walking the collection's own arrays and nodes under a {@link MemoryLayout}, so they cost a pass over the table
+ * for hashed collections. They do not include the elements, keys or values themselves.
+ *
+ * @since 7.1
+ */
+public interface MemoryMeasurable
+{
+    MemoryUsage getMemoryUsage(MemoryLayout layout);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.memory;
+
+import java.io.Serializable;
+
+/**
+ * A snapshot of the heap used by a {@link MemoryMeasurable} collection.
+ *
+ * @since 7.1
+ */
+public final class MemoryUsage implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final long shallowBytes;
+    private final long structuralBytes;
+    private final long wastedBytes;
+    private final int size;
+    private final int capacity;
+    private final int collidingBuckets;
+
+    public MemoryUsage(long shallowBytes, long structuralBytes, long wastedBytes, int size, int capacity, int collidingBuckets)
+    {
+        this.shallowBytes = shallowBytes;
+        this.structuralBytes = structuralBytes;
+        this.wastedBytes = wastedBytes;
+        this.size = size;
+        this.capacity = capacity;
+        this.collidingBuckets = collidingBuckets;
+    }
+
+    /**
+     * Returns the bytes used by the collection object itself.
+     */
+    public long getShallowBytes()
+    {
+        return this.shallowBytes;
+    }
+
+    /**
+     * Returns the bytes used by the collection object and all of its internal arrays and nodes, but not by its
+     * elements.
+     */
+    public long getStructuralBytes()
+    {
+        return this.structuralBytes;
+    }
+
+    /**
+     * Returns the part of {@link #getStructuralBytes()} which is allocated but holds no element, such as empty or
+     * removed slots of a hash table and the unused tail of a list's array.
+     */
+    public long getWastedBytes()
+    {
+        return this.wastedBytes;
+    }
+
+    /**
+     * Returns the number of entries stored in the structure, which is the number of distinct items for bags and the
+     * number of keys for multimaps.
+     */
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of slots allocated for entries.
+     */
+    public int getCapacity()
+    {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of slots holding a chain of colliding entries, or 0 for collections which are not chained.
+     */
+    public int getCollidingBuckets()
+    {
+        return this.collidingBuckets;
+    }
+
+    /**
+     * Returns the fraction of the capacity which is in use.
+     */
+    public double getLoadFactor()
+    {
+        return this.capacity == 0 ? 0.0 : (double) this.size / this.capacity;
+    }
+
+    /**
+     * Returns a copy of this usage which also counts the structural and wasted bytes of a nested collection, such as
+     * the value collections of a multimap.
+     */
+    public MemoryUsage withNested(MemoryUsage nested)
+    {
+        return new MemoryUsage(
+                this.shallowBytes,
+                this.structuralBytes + nested.structuralBytes,
+                this.wastedBytes + nested.wastedBytes,
+                this.size,
+                this.capacity,
+                this.collidingBuckets);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MemoryUsage{shallowBytes=" + this.shallowBytes
+                + ", structuralBytes=" + this.structuralBytes
+                + ", wastedBytes=" + this.wastedBytes
+                + ", size=" + this.size
+                + ", capacity=" + this.capacity
+                + ", collidingBuckets=" + this.collidingBuckets + '}';
+    }
+}
@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains the {@link org.eclipse.collections.impl.memory.MemoryMeasurable} capability, which lets
+ * collections report how much heap their internal structure uses.
+ */
+package org.eclipse.collections.impl.memory;
@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.procedure.checked.MultimapKeyValuesSerializingProcedure;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap which is safe for concurrent reads and writes without any locking. The values for each key are held as
+ * an immutable chain of nodes, newest first, in a {@link ConcurrentHashMap}. Adding a value links a new node onto the
+ * chain and swaps it in with a compare-and-set, so writers to the same key never block each other, and a reader always
+ * sees a complete chain. {@link #get(Object)} and every other read therefore work on a snapshot which is not affected
+ * by later writes.
+ * <p>
+ * Removing a single value copies the chain for that key, so these multimaps suit workloads dominated by puts and reads.
+ *
+ * @since 7.1
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>>
+        extends AbstractMultimap<K, V, C>
+        implements MutableMultimap<K, V>
+{
+    private final ConcurrentHashMap<K, ValueNode<V>> map = ConcurrentHashMap.newMap();
+    private final AtomicInteger totalSize = new AtomicInteger(0);
+
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    /**
+     * Returns a snapshot of this multimap, with a new collection of values for each key.
+     */
+    @Override
+    protected MutableMap<K, C> getMap()
+    {
+        final MutableMap<K, C> result = UnifiedMap.newMap(this.map.size());
+        this.map.forEachKeyValue(new Procedure2<K, ValueNode<V>>()
+        {
+            public void value(K key, ValueNode<V> node)
+            {
+                result.put(key, AbstractConcurrentMultimap.this.snapshot(node));
+            }
+        });
+        return result;
+    }
+
+    private C snapshot(ValueNode<V> node)
+    {
+        C collection = this.createCollection();
+        if (node != null)
+        {
+            node.addTo(collection);
+        }
+        return collection;
+    }
+
+    public int size()
+    {
+        return this.totalSize.get();
+    }
+
+    public int sizeDistinct()
+    {
+        return this.map.size();
+    }
+
+    public boolean isEmpty()
+    {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (ValueNode<V> node : this.map.values())
+        {
+            if (node.contains(value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsKeyAndValue(Object key, Object value)
+    {
+        ValueNode<V> node = this.map.get(key);
+        return node != null && node.contains(value);
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return this.map.keysView();
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    // Modification Operations
+
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            ValueNode<V> current = this.map.get(key);
+            if (current == null)
+            {
+                if (this.map.putIfAbsent(key, new ValueNode<V>(value, null)) == null)
+                {
+                    break;
+                }
+            }
+            else if (this.map.replace(key, current, new ValueNode<V>(value, current)))
+            {
+                break;
+            }
+        }
+        this.totalSize.incrementAndGet();
+        return true;
+    }
+
+    public boolean add(Pair<K, V> keyValuePair)
+    {
+        return this.put(keyValuePair.getOne(), keyValuePair.getTwo());
+    }
+
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            ValueNode<V> current = this.map.get(key);
+            if (current == null)
+            {
+                return false;
+            }
+            ValueNode<V> updated = current.without(value);
+            if (updated == current)
+            {
+                return false;
+            }
+            boolean swapped = updated == null
+                    ? this.map.remove(key, current)
+                    : this.map.replace((K) key, current, updated);
+            if (swapped)
+            {
+                this.totalSize.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    public boolean putAllPairs(Pair<K, V>... pairs)
+    {
+        boolean changed = false;
+        for (Pair<K, V> pair : pairs)
+        {
+            changed |= this.put(pair.getOne(), pair.getTwo());
+        }
+        return changed;
+    }
+
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        Object[] items = Iterate.toArray(values);
+        if (items.length == 0)
+        {
+            return false;
+        }
+        while (true)
+        {
+            ValueNode<V> current = this.map.get(key);
+            ValueNode<V> updated = ValueNode.append(current, items);
+            boolean swapped = current == null
+                    ? this.map.putIfAbsent(key, updated) == null
+                    : this.map.replace(key, current, updated);
+            if (swapped)
+            {
+                this.totalSize.addAndGet(items.length);
+                return true;
+            }
+        }
+    }
+
+    public <KK extends K, VV extends V> boolean putAll(Multimap<KK, VV> multimap)
+    {
+        class PutProcedure implements Procedure2<KK, Iterable<VV>>
+        {
+            private static final long serialVersionUID = 1L;
+
+            private boolean changed;
+
+            public void value(KK key, Iterable<VV> values)
+            {
+                this.changed |= AbstractConcurrentMultimap.this.putAll(key, values);
+            }
+        }
+
+        PutProcedure putProcedure = new PutProcedure();
+        multimap.forEachKeyMultiValues(putProcedure);
+        return putProcedure.changed;
+    }
+
+    /**
+     * Adds all of the key-value pairs of {@code multimap} to this multimap, splitting the keys into batches which are
+     * added in parallel. Every key is added by a single task, so the tasks do not contend with each other unless other
+     * threads are writing to the same keys.
+     *
+     * @see #putAll(Multimap)
+     */
+    public <KK extends K, VV extends V> boolean putAllInParallel(Multimap<KK, VV> multimap, int batchSize, Executor executor)
+    {
+        final AtomicBoolean changed = new AtomicBoolean(false);
+        ParallelIterate.forEach(multimap.keyMultiValuePairsView().toList(), new Procedure<Pair<KK, RichIterable<VV>>>()
+        {
+            public void value(Pair<KK, RichIterable<VV>> each)
+            {
+                if (AbstractConcurrentMultimap.this.putAll(each.getOne(), each.getTwo()))
+                {
+                    changed.set(true);
+                }
+            }
+        }, batchSize, executor);
+        return changed.get();
+    }
+
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        Object[] items = Iterate.toArray(values);
+        if (items.length == 0)
+        {
+            return this.removeAll(key);
+        }
+        ValueNode<V> newValues = ValueNode.append(null, items);
+        ValueNode<V> oldValues = this.map.put(key, newValues);
+        this.totalSize.addAndGet(items.length - ValueNode.sizeOf(oldValues));
+        return (C) this.snapshot(oldValues).asUnmodifiable();
+    }
+
+    public C removeAll(Object key)
+    {
+        ValueNode<V> oldValues = this.map.remove(key);
+        this.totalSize.addAndGet(-ValueNode.sizeOf(oldValues));
+        return (C) this.snapshot(oldValues).asUnmodifiable();
+    }
+
+    public void clear()
+    {
+        for (K key : this.map.keySet())
+        {
+            this.removeAll(key);
+        }
+    }
+
+    // Views
+
+    /**
+     * Returns an unmodifiable snapshot of the values for {@code key}, which does not change when this multimap does.
+     */
+    public C get(K key)
+    {
+        return (C) this.snapshot(this.map.get(key)).asUnmodifiable();
+    }
+
+    public MutableMap<K, RichIterable<V>> toMap()
+    {
+        return (MutableMap<K, RichIterable<V>>) (MutableMap<?, ?>) this.getMap();
+    }
+
+    public <R extends Collection<V>> MutableMap<K, R> toMap(final Function0<R> collectionFactory)
+    {
+        final MutableMap<K, R> result = UnifiedMap.newMap(this.map.size());
+        this.map.forEachKeyValue(new Procedure2<K, ValueNode<V>>()
+        {
+            public void value(K key, ValueNode<V> node)
+            {
+                result.put(key, node.addTo(collectionFactory.value()));
+            }
+        });
+        return result;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<K, C> snapshot = this.getMap();
+        out.writeInt(snapshot.size());
+        snapshot.forEachKeyValue(new MultimapKeyValuesSerializingProcedure<K, V>(out));
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int keyCount = in.readInt();
+        for (int k = 0; k < keyCount; k++)
+        {
+            K key = (K) in.readObject();
+            int valuesSize = in.readInt();
+            Object[] values = new Object[valuesSize];
+            for (int v = 0; v < valuesSize; v++)
+            {
+                values[v] = in.readObject();
+            }
+            this.map.put(key, ValueNode.<V>append(null, values));
+            this.totalSize.addAndGet(valuesSize);
+        }
+    }
+
+    /**
+     * An immutable node in the chain of values for one key. Each node links to the node for the previous value, and
+     * caches the number of values up to and including itself.
+     */
+    private static final class ValueNode<V>
+    {
+        private final V value;
+        private final ValueNode<V> previous;
+        private final int size;
+
+        private ValueNode(V value, ValueNode<V> previous)
+        {
+            this.value = value;
+            this.previous = previous;
+            this.size = sizeOf(previous) + 1;
+        }
+
+        private static int sizeOf(ValueNode<?> node)
+        {
+            return node == null ? 0 : node.size;
+        }
+
+        private static <V> ValueNode<V> append(ValueNode<V> node, Object[] values)
+        {
+            ValueNode<V> result = node;
+            for (Object each : values)
+            {
+                result = new ValueNode<V>((V) each, result);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the values in the order they were added.
+         */
+        private Object[] toArray()
+        {
+            Object[] result = new Object[this.size];
+            ValueNode<V> node = this;
+            for (int i = this.size - 1; i >= 0; i--)
+            {
+                result[i] = node.value;
+                node = node.previous;
+            }
+            return result;
+        }
+
+        private <R extends Collection<V>> R addTo(R target)
+        {
+            for (Object each : this.toArray())
+            {
+                target.add((V) each);
+            }
+            return target;
+        }
+
+        private boolean contains(Object object)
+        {
+            for (ValueNode<V> node = this; node != null; node = node.previous)
+            {
+                if (node.value == null ? object == null : node.value.equals(object))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns a chain without the first added occurrence of {@code object}, this node if there is no occurrence, or
+         * null if the chain would become empty.
+         */
+        private ValueNode<V> without(Object object)
+        {
+            Object[] values = this.toArray();
+            for (int i = 0; i < values.length; i++)
+            {
+                Object each = values[i];
+                if (each == null ? object == null : each.equals(object))
+                {
+                    ValueNode<V> result = this.ancestor(values.length - i);
+                    for (int j = i + 1; j < values.length; j++)
+                    {
+                        result = new ValueNode<V>((V) values[j], result);
+                    }
+                    return result;
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Returns the node {@code steps} nodes back along the chain, which holds the values before the last
+         * {@code steps} values.
+         */
+        private ValueNode<V> ancestor(int steps)
+        {
+            ValueNode<V> node = this;
+            for (int i = 0; i < steps; i++)
+            {
+                node = node.previous;
+            }
+            return node;
+        }
+    }
+}
@@ -25,11 +25,14 @@ import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.procedure.checked.MultimapKeyValuesSerializingProcedure;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.utility.Iterate;
 
 public abstract class AbstractMutableMultimap<K, V, C extends MutableCollection<V>>
         extends AbstractMultimap<K, V, C>
-        implements MutableMultimap<K, V>
+        implements MutableMultimap<K, V>, MemoryMeasurable
 {
     protected MutableMap<K, C> map;
 
@@ -145,6 +148,41 @@ public abstract class AbstractMutableMultimap<K, V, C extends MutableCollection<
         return this.map.size();
     }
 
+    /**
+     * Counts the backing map and every value collection. Collections which are not {@link MemoryMeasurable} are
+     * counted by their shallow size.
+     */
+    public MemoryUsage getMemoryUsage(MemoryLayout layout)
+    {
+        long shallowBytes = layout.shallowSizeOf(this);
+        MemoryUsage mapUsage = AbstractMutableMultimap.measure(this.map, layout);
+        long structuralBytes = shallowBytes + mapUsage.getStructuralBytes();
+        long wastedBytes = mapUsage.getWastedBytes();
+        for (C collection : this.map.valuesView())
+        {
+            MemoryUsage collectionUsage = AbstractMutableMultimap.measure(collection, layout);
+            structuralBytes += collectionUsage.getStructuralBytes();
+            wastedBytes += collectionUsage.getWastedBytes();
+        }
+        return new MemoryUsage(
+                shallowBytes,
+                structuralBytes,
+                wastedBytes,
+                mapUsage.getSize(),
+                mapUsage.getCapacity(),
+                mapUsage.getCollidingBuckets());
+    }
+
+    private static MemoryUsage measure(RichIterable<?> collection, MemoryLayout layout)
+    {
+        if (collection instanceof MemoryMeasurable)
+        {
+            return ((MemoryMeasurable) collection).getMemoryUsage(layout);
+        }
+        long shallowBytes = layout.shallowSizeOf(collection);
+        return new MemoryUsage(shallowBytes, shallowBytes, 0L, collection.size(), 0, 0);
+    }
+
     public boolean isEmpty()
     {
         return this.size() == 0;
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.bag;
+
+import java.io.Externalizable;
+import java.util.Collections;
+
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.AbstractConcurrentMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A BagMultimap which is safe for concurrent reads and writes. Puts to the same key do not lock, and
+ * {@link #get(Object)} returns a snapshot of the values.
+ *
+ * @see AbstractConcurrentMultimap
+ * @since 7.1
+ */
+public final class ConcurrentHashBagMultimap<K, V>
+        extends AbstractConcurrentMultimap<K, V, MutableBag<V>>
+        implements MutableBagMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentHashBagMultimap()
+    {
+    }
+
+    public ConcurrentHashBagMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentHashBagMultimap(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentHashBagMultimap.this.put(pair.getOne(), pair.getTwo());
+            }
+        });
+    }
+
+    public ConcurrentHashBagMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        Iterate.forEach(inputIterable, new Procedure<Pair<K, V>>()
+        {
+            public void value(Pair<K, V> pair)
+            {
+                ConcurrentHashBagMultimap.this.add(pair);
+            }
+        });
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentHashBagMultimap<K, V>();
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentHashBagMultimap<K, V>(multimap);
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentHashBagMultimap<K, V>(pairs);
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentHashBagMultimap<K, V>(inputIterable);
+    }
+
+    @Override
+    protected MutableBag<V> createCollection()
+    {
+        return HashBag.newBag();
+    }
+
+    public ConcurrentHashBagMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentHashBagMultimap<K, V>();
+    }
+
+    public MutableBagMultimap<K, V> toMutable()
+    {
+        return new ConcurrentHashBagMultimap<K, V>(this);
+    }
+
+    public ImmutableBagMultimap<K, V> toImmutable()
+    {
+        final MutableMap<K, ImmutableBag<V>> map = UnifiedMap.newMap();
+
+        this.getMap().forEachKeyValue(new Procedure2<K, MutableBag<V>>()
+        {
+            public void value(K key, MutableBag<V> bag)
+            {
+                map.put(key, bag.toImmutable());
+            }
+        });
+
+        return new ImmutableBagMultimapImpl<K, V>(map);
+    }
+
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    public HashBagMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, HashBagMultimap.<K, V>newMultimap());
+    }
+
+    public HashBagMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, HashBagMultimap.<K, V>newMultimap());
+    }
+
+    public HashBagMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, HashBagMultimap.<K, V>newMultimap());
+    }
+
+    public HashBagMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, HashBagMultimap.<K, V>newMultimap());
+    }
+
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap());
+    }
+
+    public <V2> HashBagMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, HashBagMultimap.<K, V2>newMultimap());
+    }
+
+    public void putOccurrences(K key, V value, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+
+        if (occurrences > 0)
+        {
+            this.putAll(key, Collections.nCopies(occurrences, value));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.utility.ArrayListIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+/**
+ * Runs one shared Procedure over a random access list using guided self-scheduling. Instead of cutting the list into
+ * one fixed section per task up front, every worker keeps claiming the next batch from a shared cursor until the list
+ * is used up. Batches start at about {@code remaining / (TASK_RATIO * workerCount)} elements and shrink as the list
+ * runs out, down to {@code minBatchSize}, so a worker which drew expensive elements is not left running long after
+ * the others have gone idle: the others keep taking the small batches at the end.
+ * <p>
+ * The caller decides how many workers to start, and should start no more than the executor has threads: a worker
+ * which waits in the executor's queue is counted as idle in the {@link ParallelRunStatistics}, which then no longer
+ * only measures how unevenly the batches finished.  No more workers are started than there are batches of
+ * {@code minBatchSize} elements either.
+ *
+ * @since 7.1
+ */
+public final class GuidedProcedureRunner<T>
+{
+    private final List<T> list;
+    private final Procedure<? super T> procedure;
+    private final int minBatchSize;
+    private final int workerCount;
+    private final ParallelRunStatistics statistics;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final CountDownLatch latch;
+    private volatile Throwable error;
+
+    public GuidedProcedureRunner(
+            List<T> list,
+            Procedure<? super T> procedure,
+            int minBatchSize,
+            int maxWorkerCount,
+            ParallelRunStatistics statistics)
+    {
+        if (minBatchSize < 1)
+        {
+            throw new IllegalArgumentException("Min batch size must be positive, was " + minBatchSize);
+        }
+        if (maxWorkerCount < 1)
+        {
+            throw new IllegalArgumentException("Worker count must be positive, was " + maxWorkerCount);
+        }
+        this.list = list;
+        this.procedure = procedure;
+        this.minBatchSize = minBatchSize;
+        int batchCount = list.size() / minBatchSize + (list.size() % minBatchSize == 0 ? 0 : 1);
+        this.workerCount = Math.max(1, Math.min(maxWorkerCount, batchCount));
+        this.statistics = statistics;
+        this.latch = new CountDownLatch(this.workerCount);
+    }
+
+    public void execute(Executor executor)
+    {
+        this.statistics.runStarted(this.workerCount);
+        for (int i = 0; i < this.workerCount; i++)
+        {
+            executor.execute(new Worker());
+        }
+        try
+        {
+            this.latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        this.statistics.runCompleted();
+        if (this.error != null)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", this.error);
+        }
+    }
+
+    private int claimBatchStart(int size)
+    {
+        while (this.error == null)
+        {
+            int start = this.cursor.get();
+            if (start >= size)
+            {
+                return -1;
+            }
+            if (this.cursor.compareAndSet(start, this.batchEnd(start, size)))
+            {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The end of a batch depends only on its start, so a worker which claimed a start knows where its batch ends.
+     */
+    private int batchEnd(int start, int size)
+    {
+        int remaining = size - start;
+        int batchSize = Math.max(this.minBatchSize, remaining / (ParallelIterate.TASK_RATIO * this.workerCount));
+        return batchSize >= remaining ? size : start + batchSize;
+    }
+
+    private void forEach(int start, int end)
+    {
+        int stop = end - 1;
+        if (this.list instanceof ListIterable)
+        {
+            ((ListIterable<T>) this.list).forEach(start, stop, this.procedure);
+        }
+        else if (this.list instanceof ArrayList)
+        {
+            ArrayListIterate.forEach((ArrayList<T>) this.list, start, stop, this.procedure);
+        }
+        else
+        {
+            ListIterate.forEach(this.list, start, stop, this.procedure);
+        }
+    }
+
+    private final class Worker implements Runnable
+    {
+        public void run()
+        {
+            try
+            {
+                int size = GuidedProcedureRunner.this.list.size();
+                int start = GuidedProcedureRunner.this.claimBatchStart(size);
+                while (start >= 0)
+                {
+                    int end = GuidedProcedureRunner.this.batchEnd(start, size);
+                    long batchStartNanos = System.nanoTime();
+                    try
+                    {
+                        GuidedProcedureRunner.this.forEach(start, end);
+                    }
+                    finally
+                    {
+                        GuidedProcedureRunner.this.statistics.batchCompleted(System.nanoTime() - batchStartNanos);
+                    }
+                    start = GuidedProcedureRunner.this.claimBatchStart(size);
+                }
+            }
+            catch (Throwable newError)
+            {
+                GuidedProcedureRunner.this.error = newError;
+            }
+            finally
+            {
+                GuidedProcedureRunner.this.latch.countDown();
+            }
+        }
+    }
+}
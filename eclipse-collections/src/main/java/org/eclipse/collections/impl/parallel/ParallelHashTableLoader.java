@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.Executor;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.list.Interval;
+
+/**
+ * Loads a batch of elements into a presized hash table using several threads. The table's slots are split into as many
+ * contiguous ranges as there are tasks, by the high bits of the slot index, and each task inserts only the elements
+ * which hash into its own range, so no two tasks ever write to the same slot and no locking is needed.
+ * <p>
+ * Loading happens in two parallel passes. The first computes the slot of every element and counts how many elements of
+ * each chunk of the input fall into each range, and then scatters the element positions so that each range's elements
+ * are contiguous and still in input order. The second inserts each range. Because input order is kept within a range,
+ * the result is the same as inserting the elements one at a time.
+ * <p>
+ * The table must not be resized while it is being loaded, so subclasses size it for the whole batch up front.
+ *
+ * @since 7.1
+ */
+public abstract class ParallelHashTableLoader
+{
+    private final int size;
+    private final int capacity;
+
+    /**
+     * @param size     the number of elements to load
+     * @param capacity the number of slots in the table, which must be a power of two
+     */
+    protected ParallelHashTableLoader(int size, int capacity)
+    {
+        if (Integer.bitCount(capacity) != 1)
+        {
+            throw new IllegalArgumentException("Capacity must be a power of two, was " + capacity);
+        }
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the slot of the element at {@code position}. May be called from several threads at once.
+     */
+    protected abstract int slotOf(int position);
+
+    /**
+     * Inserts the element at {@code position} into {@code slot}, and returns true if the table grew. Calls made at the
+     * same time from different threads are always for slots in different ranges.
+     */
+    protected abstract boolean insert(int position, int slot);
+
+    /**
+     * Loads every element and returns the number of elements which were added to the table.
+     */
+    public int load(Executor executor)
+    {
+        int taskCount = Math.min(Integer.highestOneBit(ParallelIterate.getDefaultTaskCount()), this.capacity);
+        if (this.size < ParallelIterate.DEFAULT_MIN_FORK_SIZE || taskCount < 2)
+        {
+            return this.loadSerially();
+        }
+        return this.loadInParallel(taskCount, executor);
+    }
+
+    private int loadSerially()
+    {
+        int added = 0;
+        for (int position = 0; position < this.size; position++)
+        {
+            if (this.insert(position, this.slotOf(position)))
+            {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private int loadInParallel(final int taskCount, Executor executor)
+    {
+        final int shift = Integer.numberOfTrailingZeros(this.capacity) - Integer.numberOfTrailingZeros(taskCount);
+        final int[] slots = new int[this.size];
+        final int[][] counts = new int[taskCount][taskCount];
+        Interval tasks = Interval.zeroTo(taskCount - 1);
+
+        ParallelIterate.forEach(tasks, new Procedure<Integer>()
+        {
+            public void value(Integer chunk)
+            {
+                int[] chunkCounts = counts[chunk];
+                int end = ParallelHashTableLoader.this.chunkEnd(chunk, taskCount);
+                for (int position = ParallelHashTableLoader.this.chunkStart(chunk, taskCount); position < end; position++)
+                {
+                    int slot = ParallelHashTableLoader.this.slotOf(position);
+                    slots[position] = slot;
+                    chunkCounts[slot >>> shift]++;
+                }
+            }
+        }, 1, taskCount, executor);
+
+        // Lay out the ranges one after another, and the chunks in input order within each range
+        final int[] rangeStarts = new int[taskCount + 1];
+        int offset = 0;
+        for (int range = 0; range < taskCount; range++)
+        {
+            rangeStarts[range] = offset;
+            for (int chunk = 0; chunk < taskCount; chunk++)
+            {
+                int count = counts[chunk][range];
+                counts[chunk][range] = offset;
+                offset += count;
+            }
+        }
+        rangeStarts[taskCount] = offset;
+
+        final int[] order = new int[this.size];
+        ParallelIterate.forEach(tasks, new Procedure<Integer>()
+        {
+            public void value(Integer chunk)
+            {
+                int[] chunkOffsets = counts[chunk];
+                int end = ParallelHashTableLoader.this.chunkEnd(chunk, taskCount);
+                for (int position = ParallelHashTableLoader.this.chunkStart(chunk, taskCount); position < end; position++)
+                {
+                    order[chunkOffsets[slots[position] >>> shift]++] = position;
+                }
+            }
+        }, 1, taskCount, executor);
+
+        final int[] added = new int[taskCount];
+        ParallelIterate.forEach(tasks, new Procedure<Integer>()
+        {
+            public void value(Integer range)
+            {
+                int count = 0;
+                for (int i = rangeStarts[range]; i < rangeStarts[range + 1]; i++)
+                {
+                    int position = order[i];
+                    if (ParallelHashTableLoader.this.insert(position, slots[position]))
+                    {
+                        count++;
+                    }
+                }
+                added[range] = count;
+            }
+        }, 1, taskCount, executor);
+
+        int total = 0;
+        for (int count : added)
+        {
+            total += count;
+        }
+        return total;
+    }
+
+    private int chunkStart(int chunk, int taskCount)
+    {
+        return (int) ((long) this.size * chunk / taskCount);
+    }
+
+    private int chunkEnd(int chunk, int taskCount)
+    {
+        return this.chunkStart(chunk + 1, taskCount);
+    }
+}
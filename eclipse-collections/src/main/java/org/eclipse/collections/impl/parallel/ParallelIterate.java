@@ -71,6 +71,7 @@ public final class ParallelIterate
     static final int DEFAULT_MIN_FORK_SIZE = 10000;
     static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
     static final int TASK_RATIO = 2;
+    static final int DEFAULT_MIN_BATCH_SIZE = 100;
     static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount();
     static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
 
@@ -534,6 +535,87 @@ public final class ParallelIterate
         }
     }
 
+    /**
+     * Iterate over the collection specified in adaptively sized parallel batches.  The {@code Procedure} used must
+     * be stateless, or use concurrent aware objects if they are to be shared.
+     * <p>
+     * Unlike {@link #forEach(Iterable, Procedure)}, which gives each task one fixed section of the collection, the
+     * workers here keep claiming batches which shrink as the collection is used up.  Use it when some elements are
+     * much more expensive to process than others, so that no worker is left idle while one long section finishes.
+     *
+     * @see GuidedProcedureRunner
+     * @since 7.1
+     */
+    public static <T> void forEachAdaptive(Iterable<T> iterable, Procedure<? super T> procedure)
+    {
+        ParallelIterate.forEachAdaptive(
+                iterable,
+                procedure,
+                ParallelIterate.DEFAULT_MIN_BATCH_SIZE,
+                ParallelIterate.EXECUTOR_SERVICE,
+                new ParallelRunStatistics());
+    }
+
+    /**
+     * Iterate over the collection specified in adaptively sized parallel batches of at least {@code minBatchSize}
+     * elements, on the specified executor, and record how the run was scheduled in {@code statistics}.  One worker
+     * is started per thread the executor can run at once, as given by {@link #getMaxThreadCount(Executor)}.
+     *
+     * @param minBatchSize The smallest batch a worker claims, except for the last one.
+     * @param executor     Use this executor for all execution.
+     * @param statistics   Receives the batch count and the busy and idle time of the run.
+     * @see #forEachAdaptive(Iterable, Procedure)
+     * @since 7.1
+     */
+    public static <T> void forEachAdaptive(
+            Iterable<T> iterable,
+            Procedure<? super T> procedure,
+            int minBatchSize,
+            Executor executor,
+            ParallelRunStatistics statistics)
+    {
+        ParallelIterate.forEachAdaptive(
+                iterable,
+                procedure,
+                minBatchSize,
+                ParallelIterate.getMaxThreadCount(executor),
+                executor,
+                statistics);
+    }
+
+    /**
+     * Iterate over the collection specified in adaptively sized parallel batches of at least {@code minBatchSize}
+     * elements, using at most {@code taskCount} workers on the specified executor, and record how the run was
+     * scheduled in {@code statistics}.
+     *
+     * @param minBatchSize The smallest batch a worker claims, except for the last one.
+     * @param taskCount    How many workers to submit to the executor.  Submitting more than the executor has threads
+     *                     leaves the surplus workers waiting in its queue, which is reported as idle time.
+     * @param executor     Use this executor for all execution.
+     * @param statistics   Receives the batch count and the busy and idle time of the run.
+     * @see #forEachAdaptive(Iterable, Procedure)
+     * @since 7.1
+     */
+    public static <T> void forEachAdaptive(
+            Iterable<T> iterable,
+            Procedure<? super T> procedure,
+            int minBatchSize,
+            int taskCount,
+            Executor executor,
+            ParallelRunStatistics statistics)
+    {
+        List<T> list;
+        if ((iterable instanceof RandomAccess || iterable instanceof ListIterable) && iterable instanceof List)
+        {
+            list = (List<T>) iterable;
+        }
+        else
+        {
+            list = ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+        }
+        new GuidedProcedureRunner<T>(list, procedure, minBatchSize, taskCount, statistics).execute(executor);
+    }
+
     /**
      * Same effect as {@link Iterate#select(Iterable, Predicate)}, but executed in parallel batches.
      *
@@ -1367,6 +1449,25 @@ public final class ParallelIterate
         return Math.min(AVAILABLE_PROCESSORS + 1, 100);
     }
 
+    /**
+     * Returns how many threads the specified executor can run at once: the maximum pool size of a bounded
+     * {@link ThreadPoolExecutor}, and {@link #getDefaultMaxThreadPoolSize()} for any other executor.
+     *
+     * @since 7.1
+     */
+    public static int getMaxThreadCount(Executor executor)
+    {
+        if (executor instanceof ThreadPoolExecutor)
+        {
+            int maximumPoolSize = ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+            if (maximumPoolSize < Integer.MAX_VALUE)
+            {
+                return maximumPoolSize;
+            }
+        }
+        return ParallelIterate.getDefaultMaxThreadPoolSize();
+    }
+
     public static int getTaskRatio()
     {
         return TASK_RATIO;
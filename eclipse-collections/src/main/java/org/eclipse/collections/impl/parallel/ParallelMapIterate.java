@@ -12,10 +12,13 @@ package org.eclipse.collections.impl.parallel;
 
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.ParallelMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.utility.MapIterate;
 
 /**
@@ -72,6 +75,12 @@ public final class ParallelMapIterate
     {
         if (map.size() > minForkSize)
         {
+            ParallelMapIterable<K, V> parallelMapIterable = ParallelMapIterate.asParallel(map, ParallelIterate.EXECUTOR_SERVICE, taskCount);
+            if (parallelMapIterable != null)
+            {
+                parallelMapIterable.forEachKeyValue(procedure);
+                return;
+            }
             Procedure<Pair<K, V>> pairProcedure = new PairProcedure<K, V>(procedure);
             ParallelIterate.forEach(MapIterate.toListOfPairs(map), new PassThruProcedureFactory<Procedure<Pair<K, V>>>(pairProcedure), new PassThruCombiner<Procedure<Pair<K, V>>>(), minForkSize, taskCount);
         }
@@ -96,6 +105,15 @@ public final class ParallelMapIterate
     {
         if (map.size() > minForkSize)
         {
+            if (executor instanceof ExecutorService)
+            {
+                ParallelMapIterable<K, V> parallelMapIterable = ParallelMapIterate.asParallel(map, (ExecutorService) executor, taskCount);
+                if (parallelMapIterable != null)
+                {
+                    parallelMapIterable.forEachKeyValue(procedure);
+                    return;
+                }
+            }
             Procedure<Pair<K, V>> pairProcedure = new PairProcedure<K, V>(procedure);
             ParallelIterate.forEachInListOnExecutor(
                     MapIterate.toListOfPairs(map),
@@ -111,6 +129,24 @@ public final class ParallelMapIterate
         }
     }
 
+    /**
+     * Returns a view which evaluates the map straight from its table, or null if the map has none, in which case the
+     * pairs have to be copied into a list first. The batches are counted in table slots rather than entries, so the
+     * map is split into somewhat more than {@code taskCount} batches.
+     * <p>
+     * A ConcurrentHashMap is copied instead, because it may be resized by other threads during the call, and only its
+     * iterator follows a resize; its table sections throw ConcurrentModificationException.
+     */
+    private static <K, V> ParallelMapIterable<K, V> asParallel(Map<K, V> map, ExecutorService executorService, int taskCount)
+    {
+        int batchSize = Math.max(1, map.size() / Math.max(1, taskCount));
+        if (map instanceof UnifiedMap)
+        {
+            return ((UnifiedMap<K, V>) map).asParallel(executorService, batchSize);
+        }
+        return null;
+    }
+
     private static final class PairProcedure<T1, T2> implements Procedure<Pair<T1, T2>>
     {
         private static final long serialVersionUID = 1L;
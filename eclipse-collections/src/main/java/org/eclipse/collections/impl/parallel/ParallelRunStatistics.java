@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how one adaptive parallel run was scheduled: how many batches it was cut into, how long the workers spent
+ * running them, and how long the run took.
+ * <p>
+ * Idle time is {@code workerCount * elapsedNanos - busyNanos}: the time from the start of the run to its end which
+ * the workers did not spend running batches. That covers a worker finishing early while another batch is still
+ * running, which is what adaptive batches are meant to reduce, but also a worker waiting in the executor's queue
+ * before it starts and the time spent claiming batches. Runs size their workers to the threads the executor can run at
+ * once, so queueing only shows up when the executor is busy with other work.
+ * <p>
+ * A statistics object may be passed to several runs one after the other; each run resets it when it starts. Runs
+ * which may overlap need a statistics object each.
+ *
+ * @see ParallelIterate#forEachAdaptive(Iterable, org.eclipse.collections.api.block.procedure.Procedure, int, java.util.concurrent.Executor, ParallelRunStatistics)
+ * @see org.eclipse.collections.impl.lazy.parallel.list.ListIterableParallelIterable#forEach(org.eclipse.collections.api.block.procedure.Procedure, ParallelRunStatistics)
+ * @since 7.1
+ */
+public final class ParallelRunStatistics
+{
+    private final AtomicInteger batchCount = new AtomicInteger();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private volatile int workerCount;
+    private volatile long startNanos;
+    private volatile long elapsedNanos;
+
+    public void runStarted(int newWorkerCount)
+    {
+        this.batchCount.set(0);
+        this.busyNanos.set(0L);
+        this.workerCount = newWorkerCount;
+        this.elapsedNanos = 0L;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Called by a worker after each batch. May be called from several threads at once.
+     */
+    public void batchCompleted(long batchNanos)
+    {
+        this.batchCount.incrementAndGet();
+        this.busyNanos.addAndGet(batchNanos);
+    }
+
+    public void runCompleted()
+    {
+        this.elapsedNanos = System.nanoTime() - this.startNanos;
+    }
+
+    public int getBatchCount()
+    {
+        return this.batchCount.get();
+    }
+
+    public int getWorkerCount()
+    {
+        return this.workerCount;
+    }
+
+    public long getElapsedNanos()
+    {
+        return this.elapsedNanos;
+    }
+
+    public long getBusyNanos()
+    {
+        return this.busyNanos.get();
+    }
+
+    public long getIdleNanos()
+    {
+        return Math.max(0L, this.workerCount * this.elapsedNanos - this.busyNanos.get());
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ParallelRunStatistics{"
+                + "batchCount=" + this.getBatchCount()
+                + ", workerCount=" + this.workerCount
+                + ", elapsedNanos=" + this.elapsedNanos
+                + ", busyNanos=" + this.getBusyNanos()
+                + ", idleNanos=" + this.getIdleNanos()
+                + '}';
+    }
+}
@@ -0,0 +1,587 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.NonParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * OrderedUnifiedSet is a MutableSet which iterates in insertion order. It uses the same layout as
+ * {@link org.eclipse.collections.impl.map.mutable.OrderedUnifiedMap}: elements are appended to a dense array and an
+ * open addressed table of ints maps each hash to a position in that array.
+ * <p>
+ * Removing an element leaves a removed marker in the dense array, which is compacted away when the array fills up or
+ * as soon as the markers make up more than half of it. Adding an element that is already present keeps its original
+ * position.
+ * <p>
+ * Removing through an iterator never compacts. Any other change is allowed while iterating as long as it does not
+ * compact the dense array or clear the set; if it does, the iterator throws a ConcurrentModificationException.
+ *
+ * @since 7.1
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class OrderedUnifiedSet<T> extends AbstractMutableSet<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OrderedUnifiedSet.NULL_KEY";
+        }
+    };
+
+    private static final Object REMOVED_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "OrderedUnifiedSet.REMOVED_KEY";
+        }
+    };
+
+    private static final int EMPTY_SLOT = 0;
+    private static final int REMOVED_SLOT = -1;
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    /**
+     * Open addressed table holding one plus the position of each element in {@link #elements}.
+     */
+    private transient int[] index;
+    private transient Object[] elements;
+
+    /**
+     * The number of positions used in {@link #elements}, including the removed ones. Every index slot which is not
+     * empty was written by one of these positions, so the index always keeps an empty slot to end a probe.
+     */
+    private transient int used;
+    private transient int occupied;
+
+    /**
+     * Incremented whenever the entries move to new positions, so that iterators, which hold positions, can fail fast.
+     */
+    private transient int compactionCount;
+
+    public OrderedUnifiedSet()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public OrderedUnifiedSet(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(initialCapacity);
+    }
+
+    public OrderedUnifiedSet(Collection<? extends T> collection)
+    {
+        this(Math.max(collection.size(), DEFAULT_INITIAL_CAPACITY));
+        this.addAll(collection);
+    }
+
+    public static <K> OrderedUnifiedSet<K> newSet()
+    {
+        return new OrderedUnifiedSet<K>();
+    }
+
+    public static <K> OrderedUnifiedSet<K> newSet(int size)
+    {
+        return new OrderedUnifiedSet<K>(size);
+    }
+
+    public static <K> OrderedUnifiedSet<K> newSet(Iterable<? extends K> source)
+    {
+        if (source instanceof Collection)
+        {
+            return new OrderedUnifiedSet<K>((Collection<K>) source);
+        }
+        OrderedUnifiedSet<K> result = OrderedUnifiedSet.newSet();
+        Iterate.addAllTo(source, result);
+        return result;
+    }
+
+    public static <K> OrderedUnifiedSet<K> newSetWith(K... elements)
+    {
+        OrderedUnifiedSet<K> result = OrderedUnifiedSet.newSet(elements.length);
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    @Override
+    public OrderedUnifiedSet<T> clone()
+    {
+        return new OrderedUnifiedSet<T>(this);
+    }
+
+    @Override
+    public MutableSet<T> newEmpty()
+    {
+        return OrderedUnifiedSet.newSet();
+    }
+
+    @Override
+    protected <K> MutableSet<K> newEmptySameSize()
+    {
+        return OrderedUnifiedSet.newSet(this.size());
+    }
+
+    public OrderedUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public OrderedUnifiedSet<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public OrderedUnifiedSet<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public OrderedUnifiedSet<T> with(T... elements)
+    {
+        ArrayIterate.addAllTo(elements, this);
+        return this;
+    }
+
+    public OrderedUnifiedSet<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    public OrderedUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    public OrderedUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    private void allocate(int capacity)
+    {
+        int indexLength = 4;
+        while (indexLength - (indexLength >> 2) < capacity)
+        {
+            indexLength <<= 1;
+        }
+        this.index = new int[indexLength];
+        this.elements = new Object[indexLength - (indexLength >> 2)];
+        this.used = 0;
+    }
+
+    private static int hash(Object key)
+    {
+        // Same spreading function as UnifiedSet
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h;
+    }
+
+    private int slotOf(Object key)
+    {
+        int mask = this.index.length - 1;
+        for (int slot = OrderedUnifiedSet.hash(key) & mask; ; slot = slot + 1 & mask)
+        {
+            int entry = this.index[slot];
+            if (entry == EMPTY_SLOT)
+            {
+                return -1;
+            }
+            if (entry != REMOVED_SLOT && OrderedUnifiedSet.keyEquals(this.elements[entry - 1], key))
+            {
+                return slot;
+            }
+        }
+    }
+
+    private int slotOfPosition(int position)
+    {
+        int mask = this.index.length - 1;
+        int slot = OrderedUnifiedSet.hash(this.nonSentinel(this.elements[position])) & mask;
+        while (this.index[slot] != position + 1)
+        {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private int emptySlot(int hash)
+    {
+        int mask = this.index.length - 1;
+        int slot = hash & mask;
+        while (this.index[slot] != EMPTY_SLOT)
+        {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    @Override
+    public boolean contains(Object key)
+    {
+        return this.slotOf(key) >= 0;
+    }
+
+    @Override
+    public boolean add(T key)
+    {
+        int hash = OrderedUnifiedSet.hash(key);
+        int mask = this.index.length - 1;
+        int freeSlot = -1;
+        int slot = hash & mask;
+        while (true)
+        {
+            int entry = this.index[slot];
+            if (entry == EMPTY_SLOT)
+            {
+                break;
+            }
+            if (entry == REMOVED_SLOT)
+            {
+                if (freeSlot < 0)
+                {
+                    freeSlot = slot;
+                }
+            }
+            else if (OrderedUnifiedSet.keyEquals(this.elements[entry - 1], key))
+            {
+                return false;
+            }
+            slot = slot + 1 & mask;
+        }
+
+        if (this.used == this.elements.length)
+        {
+            // Compact in place when at least half of the positions are removed, otherwise double
+            this.rehash(this.occupied > this.elements.length >> 1 ? this.elements.length << 1 : this.elements.length);
+            freeSlot = this.emptySlot(hash);
+        }
+        else if (freeSlot < 0)
+        {
+            freeSlot = slot;
+        }
+        this.index[freeSlot] = this.used + 1;
+        this.elements[this.used] = key == null ? NULL_KEY : key;
+        this.used++;
+        this.occupied++;
+        return true;
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] oldElements = this.elements;
+        int oldUsed = this.used;
+        this.allocate(newCapacity);
+        this.compactionCount++;
+        for (int i = 0; i < oldUsed; i++)
+        {
+            Object cur = oldElements[i];
+            if (cur != REMOVED_KEY)
+            {
+                this.index[this.emptySlot(OrderedUnifiedSet.hash(this.nonSentinel(cur)))] = this.used + 1;
+                this.elements[this.used] = cur;
+                this.used++;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object key)
+    {
+        int slot = this.slotOf(key);
+        if (slot < 0)
+        {
+            return false;
+        }
+        this.removeSlot(slot);
+        if (this.used - this.occupied > this.elements.length >> 1)
+        {
+            this.rehash(this.elements.length);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the element referenced by the slot without compacting, so that positions held by iterators stay valid.
+     */
+    private void removeSlot(int slot)
+    {
+        int position = this.index[slot] - 1;
+        this.index[slot] = REMOVED_SLOT;
+        this.elements[position] = REMOVED_KEY;
+        this.occupied--;
+    }
+
+    public void clear()
+    {
+        if (this.used == 0)
+        {
+            return;
+        }
+        Arrays.fill(this.index, EMPTY_SLOT);
+        Arrays.fill(this.elements, 0, this.used, null);
+        this.used = 0;
+        this.occupied = 0;
+        this.compactionCount++;
+    }
+
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    public Iterator<T> iterator()
+    {
+        return new PositionalIterator();
+    }
+
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.elements[i];
+            if (cur != REMOVED_KEY)
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int count = 0;
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.elements[i];
+            if (cur != REMOVED_KEY)
+            {
+                objectIntProcedure.value(this.nonSentinel(cur), count++);
+            }
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.elements[i];
+            if (cur != REMOVED_KEY)
+            {
+                procedure.value(this.nonSentinel(cur), parameter);
+            }
+        }
+    }
+
+    public T getFirst()
+    {
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.elements[i];
+            if (cur != REMOVED_KEY)
+            {
+                return this.nonSentinel(cur);
+            }
+        }
+        return null;
+    }
+
+    public T getLast()
+    {
+        for (int i = this.used - 1; i >= 0; i--)
+        {
+            Object cur = this.elements[i];
+            if (cur != REMOVED_KEY)
+            {
+                return this.nonSentinel(cur);
+            }
+        }
+        return null;
+    }
+
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelUnsortedSetIterable<T>(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+
+        Set<?> other = (Set<?>) object;
+        return this.size() == other.size() && this.containsAll(other);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.elements[i];
+            if (cur != REMOVED_KEY && cur != NULL_KEY)
+            {
+                hashCode += cur.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        for (int i = 0; i < this.used; i++)
+        {
+            Object cur = this.elements[i];
+            if (cur != REMOVED_KEY)
+            {
+                out.writeObject(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(Math.max(size, DEFAULT_INITIAL_CAPACITY));
+        this.occupied = 0;
+        for (int i = 0; i < size; i++)
+        {
+            this.add((T) in.readObject());
+        }
+    }
+
+    private T nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (T) key;
+    }
+
+    private static boolean keyEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    private final class PositionalIterator implements Iterator<T>
+    {
+        private int nextPosition;
+        private int lastPosition = -1;
+        private int expectedCompactionCount = OrderedUnifiedSet.this.compactionCount;
+
+        private PositionalIterator()
+        {
+            this.nextPosition = this.skipRemoved(0);
+        }
+
+        private int skipRemoved(int position)
+        {
+            int result = position;
+            while (result < OrderedUnifiedSet.this.used && OrderedUnifiedSet.this.elements[result] == REMOVED_KEY)
+            {
+                result++;
+            }
+            return result;
+        }
+
+        private void checkForCompaction()
+        {
+            if (this.expectedCompactionCount != OrderedUnifiedSet.this.compactionCount)
+            {
+                throw new ConcurrentModificationException("OrderedUnifiedSet was compacted or cleared while iterating");
+            }
+        }
+
+        public boolean hasNext()
+        {
+            // Entries after the last one returned may have been removed since, without going through this iterator
+            this.nextPosition = this.skipRemoved(this.nextPosition);
+            return this.nextPosition < OrderedUnifiedSet.this.used;
+        }
+
+        public T next()
+        {
+            this.checkForCompaction();
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastPosition = this.nextPosition;
+            this.nextPosition = this.skipRemoved(this.nextPosition + 1);
+            return OrderedUnifiedSet.this.nonSentinel(OrderedUnifiedSet.this.elements[this.lastPosition]);
+        }
+
+        public void remove()
+        {
+            if (this.lastPosition < 0)
+            {
+                throw new IllegalStateException();
+            }
+            this.checkForCompaction();
+            OrderedUnifiedSet.this.removeSlot(OrderedUnifiedSet.this.slotOfPosition(this.lastPosition));
+            this.lastPosition = -1;
+        }
+    }
+}
@@ -56,16 +56,22 @@ import org.eclipse.collections.impl.lazy.parallel.set.AbstractParallelUnsortedSe
 import org.eclipse.collections.impl.lazy.parallel.set.RootUnsortedSetBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.SelectUnsortedSetBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.multimap.set.UnifiedSetMultimap;
+import org.eclipse.collections.impl.parallel.ParallelHashTableLoader;
 import org.eclipse.collections.impl.partition.set.PartitionUnifiedSet;
 import org.eclipse.collections.impl.set.AbstractUnifiedSet;
+import org.eclipse.collections.impl.statistics.HashTableMeasurable;
+import org.eclipse.collections.impl.statistics.HashTableStatistics;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.Iterate;
 
 @NotThreadSafe
 public class UnifiedSet<T>
         extends AbstractUnifiedSet<T>
-        implements Externalizable
+        implements Externalizable, MemoryMeasurable, HashTableMeasurable
 {
     protected static final Object NULL_KEY = new Object()
     {
@@ -94,6 +100,8 @@ public class UnifiedSet<T>
 
     protected transient int occupied;
 
+    private transient int resizeCount;
+
     public UnifiedSet()
     {
         this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
@@ -190,6 +198,37 @@ public class UnifiedSet<T>
         return UnifiedSet.<K>newSet(elements.length).with(elements);
     }
 
+    /**
+     * Creates a set containing the elements of {@code source}, using the threads of {@code executorService} to fill the
+     * table. The table is sized for the whole source up front and split into ranges of slots by the high bits of their
+     * index, and each thread adds only the elements which hash into its own range, so the threads never write to the
+     * same slot and the table is never resized.
+     *
+     * @see ParallelHashTableLoader
+     * @since 7.1
+     */
+    public static <K> UnifiedSet<K> newSetParallel(Iterable<? extends K> source, ExecutorService executorService)
+    {
+        final K[] elements = (K[]) Iterate.toArray(source);
+        final UnifiedSet<K> result = UnifiedSet.newSet(elements.length);
+        ParallelHashTableLoader loader = new ParallelHashTableLoader(elements.length, result.table.length)
+        {
+            @Override
+            protected int slotOf(int position)
+            {
+                return result.index(elements[position]);
+            }
+
+            @Override
+            protected boolean insert(int position, int slot)
+            {
+                return result.addToSlot(elements[position], slot);
+            }
+        };
+        result.occupied += loader.load(executorService);
+        return result;
+    }
+
     private int fastCeil(float v)
     {
         int possibleResult = (int) v;
@@ -332,6 +371,73 @@ public class UnifiedSet<T>
         return true;
     }
 
+    /**
+     * Adds {@code key} to the slot at {@code index} without updating {@link #occupied} or resizing the table, so that
+     * different slots can be filled from different threads.
+     */
+    private boolean addToSlot(T key, int index)
+    {
+        Object realKey = UnifiedSet.toSentinelIfNull(key);
+        Object cur = this.table[index];
+        if (cur == null)
+        {
+            this.table[index] = realKey;
+            return true;
+        }
+        if (!(cur instanceof ChainedBucket))
+        {
+            if (this.nonNullTableObjectEquals(cur, key))
+            {
+                return false;
+            }
+            this.table[index] = new ChainedBucket(cur, realKey);
+            return true;
+        }
+        ChainedBucket bucket = (ChainedBucket) cur;
+        do
+        {
+            if (this.nonNullTableObjectEquals(bucket.zero, key))
+            {
+                return false;
+            }
+            if (bucket.one == null)
+            {
+                bucket.one = realKey;
+                return true;
+            }
+            if (this.nonNullTableObjectEquals(bucket.one, key))
+            {
+                return false;
+            }
+            if (bucket.two == null)
+            {
+                bucket.two = realKey;
+                return true;
+            }
+            if (this.nonNullTableObjectEquals(bucket.two, key))
+            {
+                return false;
+            }
+            if (bucket.three instanceof ChainedBucket)
+            {
+                bucket = (ChainedBucket) bucket.three;
+                continue;
+            }
+            if (bucket.three == null)
+            {
+                bucket.three = realKey;
+                return true;
+            }
+            if (this.nonNullTableObjectEquals(bucket.three, key))
+            {
+                return false;
+            }
+            bucket.three = new ChainedBucket(bucket.three, realKey);
+            return true;
+        }
+        while (true);
+    }
+
     @Override
     protected void rehash(int newCapacity)
     {
@@ -339,6 +445,7 @@ public class UnifiedSet<T>
         Object[] old = this.table;
         this.allocate(newCapacity);
         this.occupied = 0;
+        this.resizeCount++;
 
         for (int i = 0; i < oldLength; i++)
         {
@@ -1039,6 +1146,97 @@ public class UnifiedSet<T>
         }
     }
 
+    public MemoryUsage getMemoryUsage(MemoryLayout layout)
+    {
+        long shallowBytes = layout.shallowSizeOf(this);
+        long structuralBytes = shallowBytes + layout.shallowSizeOf(this.table);
+        long bucketBytes = layout.instanceSizeOf(ChainedBucket.class);
+        int emptySlots = 0;
+        int collidingBuckets = 0;
+        for (Object cur : this.table)
+        {
+            if (cur == null)
+            {
+                emptySlots++;
+            }
+            else if (cur instanceof ChainedBucket)
+            {
+                collidingBuckets++;
+                ChainedBucket bucket = (ChainedBucket) cur;
+                while (true)
+                {
+                    structuralBytes += bucketBytes;
+                    emptySlots += UnifiedSet.countNulls(bucket.zero, bucket.one, bucket.two);
+                    if (!(bucket.three instanceof ChainedBucket))
+                    {
+                        emptySlots += UnifiedSet.countNulls(bucket.three);
+                        break;
+                    }
+                    bucket = (ChainedBucket) bucket.three;
+                }
+            }
+        }
+        return new MemoryUsage(
+                shallowBytes,
+                structuralBytes,
+                (long) emptySlots * layout.getReferenceBytes(),
+                this.occupied,
+                this.table.length,
+                collidingBuckets);
+    }
+
+    public HashTableStatistics getHashTableStatistics()
+    {
+        long totalProbeLength = 0L;
+        int maxProbeLength = 0;
+        int collidingBuckets = 0;
+        for (Object cur : this.table)
+        {
+            if (cur instanceof ChainedBucket)
+            {
+                collidingBuckets++;
+                // Removing from a chain moves its last item into the gap, so the items are always at the front
+                ChainedBucket bucket = (ChainedBucket) cur;
+                int chainLength = 0;
+                while (bucket.three instanceof ChainedBucket)
+                {
+                    chainLength += 3;
+                    bucket = (ChainedBucket) bucket.three;
+                }
+                chainLength += 4 - UnifiedSet.countNulls(bucket.zero, bucket.one, bucket.two, bucket.three);
+                totalProbeLength += (long) chainLength * (chainLength + 1) / 2;
+                maxProbeLength = Math.max(maxProbeLength, chainLength);
+            }
+            else if (cur != null)
+            {
+                totalProbeLength++;
+                maxProbeLength = Math.max(maxProbeLength, 1);
+            }
+        }
+        return new HashTableStatistics(
+                this.occupied,
+                this.table.length,
+                totalProbeLength,
+                maxProbeLength,
+                collidingBuckets,
+                0,
+                this.resizeCount,
+                0);
+    }
+
+    private static int countNulls(Object... slots)
+    {
+        int count = 0;
+        for (Object slot : slots)
+        {
+            if (slot == null)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
     protected boolean copySet(UnifiedSet<?> unifiedset)
     {
         //todo: optimize for current size == 0
@@ -17,9 +17,12 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.ByteIterable;
 import org.eclipse.collections.api.LazyByteIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableByteBag;
 import org.eclipse.collections.api.block.function.primitive.ByteToObjectFunction;
 import org.eclipse.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -36,12 +39,16 @@ import org.eclipse.collections.api.set.primitive.MutableByteSet;
 import org.eclipse.collections.impl.bag.mutable.primitive.ByteHashBag;
 import org.eclipse.collections.impl.block.procedure.checked.primitive.CheckedByteProcedure;
 import org.eclipse.collections.impl.factory.primitive.ByteSets;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ByteArrayParallelIterable;
 import org.eclipse.collections.impl.lazy.primitive.LazyByteIterableAdapter;
 import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.set.immutable.primitive.ImmutableByteSetSerializationProxy;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 
-public final class ByteHashSet implements MutableByteSet, Externalizable
+public final class ByteHashSet implements MutableByteSet, Externalizable, MemoryMeasurable
 {
     private static final long serialVersionUID = 1L;
     private static final byte MAX_BYTE_GROUP_1 = -65;
@@ -254,6 +261,15 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return this.size;
     }
 
+    /**
+     * The elements are kept in a fixed bit set with one bit for each possible byte, so nothing is ever wasted.
+     */
+    public MemoryUsage getMemoryUsage(MemoryLayout layout)
+    {
+        long shallowBytes = layout.shallowSizeOf(this);
+        return new MemoryUsage(shallowBytes, shallowBytes, 0L, this.size, 256, 0);
+    }
+
     public boolean isEmpty()
     {
         return this.size() == 0;
@@ -487,6 +503,16 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new SynchronizedByteSet(this);
     }
 
+    /**
+     * A ByteHashSet holds at most 256 values, so the returned iterable works on a copy of the values taken now.
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        byte[] values = this.toArray();
+        return new ByteArrayParallelIterable(values, values.length, executorService, batchSize);
+    }
+
     public ImmutableByteSet toImmutable()
     {
         if (this.size() == 0)
@@ -11,7 +11,6 @@
 package org.eclipse.collections.impl.set.sorted.immutable;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Set;
@@ -49,6 +48,7 @@ import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
+import org.eclipse.collections.impl.utility.internal.SortedArrayIndex;
 
 @Immutable
 final class ImmutableTreeSet<T>
@@ -59,11 +59,13 @@ final class ImmutableTreeSet<T>
 
     private final T[] delegate;
     private final Comparator<? super T> comparator;
+    private final SortedArrayIndex<T> index;
 
     private ImmutableTreeSet(SortedSet<T> sortedSet)
     {
         this.delegate = (T[]) sortedSet.toArray();
         this.comparator = sortedSet.comparator();
+        this.index = new SortedArrayIndex<T>(this.delegate, this.comparator);
     }
 
     public static <T> ImmutableSortedSet<T> newSetWith(T... elements)
@@ -133,7 +135,30 @@ final class ImmutableTreeSet<T>
     @Override
     public boolean contains(Object object)
     {
-        return Arrays.binarySearch(this.delegate, (T) object, this.comparator) >= 0;
+        return this.index.binarySearch(object) >= 0;
+    }
+
+    /**
+     * If {@code source} is sorted in the same order as this set, looks its elements up in a single forward pass.
+     */
+    @Override
+    public boolean containsAllIterable(Iterable<?> source)
+    {
+        if (!SortedArrayIndex.isSortedBy(source, this.comparator))
+        {
+            return super.containsAllIterable(source);
+        }
+        int fromIndex = 0;
+        for (Object each : source)
+        {
+            int position = this.index.binarySearchFrom(fromIndex, each);
+            if (position < 0)
+            {
+                return false;
+            }
+            fromIndex = position + 1;
+        }
+        return true;
     }
 
     public Iterator<T> iterator()
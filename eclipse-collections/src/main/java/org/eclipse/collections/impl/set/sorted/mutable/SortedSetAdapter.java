@@ -68,7 +68,7 @@ import org.eclipse.collections.impl.block.procedure.primitive.CollectLongProcedu
 import org.eclipse.collections.impl.block.procedure.primitive.CollectShortProcedure;
 import org.eclipse.collections.impl.collection.mutable.AbstractCollectionAdapter;
 import org.eclipse.collections.impl.factory.SortedSets;
-import org.eclipse.collections.impl.lazy.parallel.set.sorted.NonParallelSortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.sorted.RangeParallelSortedSetIterable;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
 import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -615,15 +615,7 @@ public final class SortedSetAdapter<T>
 
     public ParallelSortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
     {
-        if (executorService == null)
-        {
-            throw new NullPointerException();
-        }
-        if (batchSize < 1)
-        {
-            throw new IllegalArgumentException();
-        }
-        return new NonParallelSortedSetIterable<T>(this);
+        return new RangeParallelSortedSetIterable<T>(this.delegate, executorService, batchSize);
     }
 
     public MutableSortedSet<T> toReversed()
@@ -79,7 +79,7 @@ import org.eclipse.collections.impl.block.procedure.primitive.CollectLongProcedu
 import org.eclipse.collections.impl.block.procedure.primitive.CollectShortProcedure;
 import org.eclipse.collections.impl.collection.mutable.AbstractMutableCollection;
 import org.eclipse.collections.impl.factory.SortedSets;
-import org.eclipse.collections.impl.lazy.parallel.set.sorted.NonParallelSortedSetIterable;
+import org.eclipse.collections.impl.lazy.parallel.set.sorted.RangeParallelSortedSetIterable;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
 import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -183,15 +183,7 @@ public class TreeSortedSet<T> extends AbstractMutableCollection<T>
     @Beta
     public ParallelSortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
     {
-        if (executorService == null)
-        {
-            throw new NullPointerException();
-        }
-        if (batchSize < 1)
-        {
-            throw new IllegalArgumentException();
-        }
-        return new NonParallelSortedSetIterable<T>(this);
+        return new RangeParallelSortedSetIterable<T>(this.treeSet, executorService, batchSize);
     }
 
     public ImmutableSortedSet<T> toImmutable()
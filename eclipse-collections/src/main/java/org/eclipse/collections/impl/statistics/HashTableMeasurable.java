@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.statistics;
+
+/**
+ * Implemented by hashed collections which can report the health of their table. The resize and rehash counts are kept
+ * as plain counters while the collection is used, so the only cost of opting in is calling
+ * {@link #getHashTableStatistics()}, which makes a single pass over the table to measure probe lengths. That is cheap
+ * enough to sample periodically from a monitoring thread, but it is not synchronized: for collections which are not
+ * thread-safe the caller must make sure the collection is not modified during the call.
+ *
+ * @since 7.1
+ */
+public interface HashTableMeasurable
+{
+    HashTableStatistics getHashTableStatistics();
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.statistics;
+
+import java.io.Serializable;
+
+/**
+ * A snapshot of the health of a {@link HashTableMeasurable} collection's table.
+ * <p>
+ * The probe length of an entry is the number of slots a successful lookup of its key reads, so an entry which sits in
+ * its home slot has a probe length of 1. For chained tables it is the entry's position in its bucket's chain, and for
+ * open-addressed tables it is the number of slots visited by the probe sequence.
+ *
+ * @since 7.1
+ */
+public final class HashTableStatistics implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final int size;
+    private final int capacity;
+    private final long totalProbeLength;
+    private final int maxProbeLength;
+    private final int collidingBuckets;
+    private final int tombstones;
+    private final int resizeCount;
+    private final int inPlaceRehashCount;
+
+    public HashTableStatistics(
+            int size,
+            int capacity,
+            long totalProbeLength,
+            int maxProbeLength,
+            int collidingBuckets,
+            int tombstones,
+            int resizeCount,
+            int inPlaceRehashCount)
+    {
+        this.size = size;
+        this.capacity = capacity;
+        this.totalProbeLength = totalProbeLength;
+        this.maxProbeLength = maxProbeLength;
+        this.collidingBuckets = collidingBuckets;
+        this.tombstones = tombstones;
+        this.resizeCount = resizeCount;
+        this.inPlaceRehashCount = inPlaceRehashCount;
+    }
+
+    /**
+     * Returns the number of entries stored in the table.
+     */
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of slots in the table.
+     */
+    public int getCapacity()
+    {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the fraction of the capacity which is in use.
+     */
+    public double getLoadFactor()
+    {
+        return this.capacity == 0 ? 0.0 : (double) this.size / this.capacity;
+    }
+
+    /**
+     * Returns the mean probe length over all entries, or 0 for an empty table.
+     */
+    public double getAverageProbeLength()
+    {
+        return this.size == 0 ? 0.0 : (double) this.totalProbeLength / this.size;
+    }
+
+    /**
+     * Returns the longest probe length of any entry, or 0 for an empty table.
+     */
+    public int getMaxProbeLength()
+    {
+        return this.maxProbeLength;
+    }
+
+    /**
+     * Returns the number of slots holding a chain of colliding entries, or 0 for open-addressed tables.
+     */
+    public int getCollidingBuckets()
+    {
+        return this.collidingBuckets;
+    }
+
+    /**
+     * Returns the number of slots holding the marker of a removed entry, or 0 for chained tables, which do not leave
+     * markers behind.
+     */
+    public int getTombstones()
+    {
+        return this.tombstones;
+    }
+
+    /**
+     * Returns the fraction of the capacity taken up by the markers of removed entries.
+     */
+    public double getTombstoneRatio()
+    {
+        return this.capacity == 0 ? 0.0 : (double) this.tombstones / this.capacity;
+    }
+
+    /**
+     * Returns the number of times the table has been reallocated with a different capacity since the collection was
+     * created.
+     */
+    public int getResizeCount()
+    {
+        return this.resizeCount;
+    }
+
+    /**
+     * Returns the number of times every entry has been reinserted into a table of the same capacity since the
+     * collection was created, to clear out the markers of removed entries. Resizes are not included, so this is 0 for
+     * chained tables, which only rehash when they grow.
+     */
+    public int getInPlaceRehashCount()
+    {
+        return this.inPlaceRehashCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "HashTableStatistics{size=" + this.size
+                + ", capacity=" + this.capacity
+                + ", averageProbeLength=" + this.getAverageProbeLength()
+                + ", maxProbeLength=" + this.maxProbeLength
+                + ", collidingBuckets=" + this.collidingBuckets
+                + ", tombstones=" + this.tombstones
+                + ", resizeCount=" + this.resizeCount
+                + ", inPlaceRehashCount=" + this.inPlaceRehashCount + '}';
+    }
+}
@@ -61,6 +61,8 @@ import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.multimap.bag.BagMultimap;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableIntObjectListMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableLongObjectListMultimap;
 import org.eclipse.collections.api.multimap.set.SetMultimap;
 import org.eclipse.collections.api.partition.PartitionIterable;
 import org.eclipse.collections.api.tuple.Pair;
@@ -78,6 +80,8 @@ import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.multimap.primitive.IntObjectFastListMultimap;
+import org.eclipse.collections.impl.multimap.primitive.LongObjectFastListMultimap;
 import org.eclipse.collections.impl.multimap.set.UnifiedSetMultimap;
 import org.eclipse.collections.impl.utility.internal.DefaultSpeciesNewStrategy;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
@@ -3191,6 +3195,58 @@ public final class Iterate
         throw new IllegalArgumentException("Cannot perform a groupBy on null");
     }
 
+    /**
+     * Groups the elements of the iterable by an int key, without boxing the keys. The values for each key keep the
+     * iteration order of the iterable.
+     *
+     * @see #groupBy(Iterable, Function)
+     * @since 7.1
+     */
+    public static <T> MutableIntObjectListMultimap<T> groupByInt(
+            Iterable<T> iterable,
+            final IntFunction<? super T> function)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform a groupByInt on null");
+        }
+        final IntObjectFastListMultimap<T> result = IntObjectFastListMultimap.newMultimap();
+        Iterate.forEach(iterable, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                result.put(function.intValueOf(each), each);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Groups the elements of the iterable by a long key, without boxing the keys. The values for each key keep the
+     * iteration order of the iterable.
+     *
+     * @see #groupBy(Iterable, Function)
+     * @since 7.1
+     */
+    public static <T> MutableLongObjectListMultimap<T> groupByLong(
+            Iterable<T> iterable,
+            final LongFunction<? super T> function)
+    {
+        if (iterable == null)
+        {
+            throw new IllegalArgumentException("Cannot perform a groupByLong on null");
+        }
+        final LongObjectFastListMultimap<T> result = LongObjectFastListMultimap.newMultimap();
+        Iterate.forEach(iterable, new Procedure<T>()
+        {
+            public void value(T each)
+            {
+                result.put(function.longValueOf(each), each);
+            }
+        });
+        return result;
+    }
+
     /**
      * @see RichIterable#aggregateInPlaceBy(Function, Function0, Procedure2)
      */
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Comparator;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.ordered.SortedIterable;
+import org.eclipse.collections.impl.block.factory.Comparators;
+
+/**
+ * A search index over an array which is sorted by a comparator, or by natural order if the comparator is null. The
+ * array is not copied and must not change while the index is in use.
+ * <p>
+ * Arrays of at least {@link #EYTZINGER_THRESHOLD} elements are also copied into Eytzinger (breadth-first) order, in
+ * which the first levels of the search share a few cache lines and each step picks the next slot arithmetically
+ * instead of branching on the comparison.
+ *
+ * @since 7.1
+ */
+public final class SortedArrayIndex<T>
+{
+    public static final int EYTZINGER_THRESHOLD = 64;
+
+    private final T[] sorted;
+    private final Comparator<? super T> comparator;
+
+    /**
+     * The elements in breadth-first order of the implicit search tree, starting at index 1.
+     */
+    private final Object[] eytzinger;
+
+    /**
+     * The index in {@link #sorted} of each element of {@link #eytzinger}.
+     */
+    private final int[] ranks;
+
+    public SortedArrayIndex(T[] sorted, Comparator<? super T> comparator)
+    {
+        this.sorted = sorted;
+        this.comparator = comparator;
+        if (sorted.length >= EYTZINGER_THRESHOLD)
+        {
+            this.eytzinger = new Object[sorted.length + 1];
+            this.ranks = new int[sorted.length + 1];
+            this.fill(1, 0);
+        }
+        else
+        {
+            this.eytzinger = null;
+            this.ranks = null;
+        }
+    }
+
+    /**
+     * Returns true if {@code iterable} is known to iterate in ascending order of {@code comparator}, which is natural
+     * order if it is null.
+     */
+    public static boolean isSortedBy(Iterable<?> iterable, Comparator<?> comparator)
+    {
+        if (iterable instanceof SortedIterable)
+        {
+            return Comparators.nullSafeEquals(((SortedIterable<?>) iterable).comparator(), comparator);
+        }
+        if (iterable instanceof SortedSet)
+        {
+            return Comparators.nullSafeEquals(((SortedSet<?>) iterable).comparator(), comparator);
+        }
+        return false;
+    }
+
+    /**
+     * Fills the subtree rooted at {@code node} with the sorted elements starting at {@code rank}, and returns the rank
+     * following the last element of the subtree.
+     */
+    private int fill(int node, int rank)
+    {
+        int nextRank = rank;
+        if (node <= this.sorted.length)
+        {
+            nextRank = this.fill(node << 1, nextRank);
+            this.eytzinger[node] = this.sorted[nextRank];
+            this.ranks[node] = nextRank;
+            nextRank = this.fill((node << 1) + 1, nextRank + 1);
+        }
+        return nextRank;
+    }
+
+    /**
+     * Searches for {@code key} with the same contract as {@link java.util.Arrays#binarySearch(Object[], Object, Comparator)}.
+     */
+    public int binarySearch(Object key)
+    {
+        if (this.eytzinger == null)
+        {
+            return this.binarySearch(key, 0, this.sorted.length);
+        }
+        int length = this.sorted.length;
+        int node = 1;
+        while (node <= length)
+        {
+            // Descend right exactly when the node is less than the key, using the sign bit of the comparison
+            node = (node << 1) + (this.compare(this.eytzinger[node], key) >>> 31);
+        }
+        // Undo the right turns taken after the last left turn, to land on the first node not less than the key
+        node >>= Integer.numberOfTrailingZeros(~node) + 1;
+        if (node == 0)
+        {
+            return -(length + 1);
+        }
+        int rank = this.ranks[node];
+        return this.compare(this.eytzinger[node], key) == 0 ? rank : -(rank + 1);
+    }
+
+    /**
+     * Searches for {@code key}, which is expected to be greater than the element before {@code fromIndex}, by galloping
+     * forward from {@code fromIndex}. Passing the insertion point of the previous search makes a batch of ascending keys
+     * cost a merge of the two sequences rather than a full search for each key. If {@code key} is not greater than the
+     * element before {@code fromIndex}, the whole array is searched.
+     */
+    public int binarySearchFrom(int fromIndex, Object key)
+    {
+        if (fromIndex > 0)
+        {
+            int previous = this.compare(this.sorted[fromIndex - 1], key);
+            if (previous == 0)
+            {
+                return fromIndex - 1;
+            }
+            if (previous > 0)
+            {
+                return this.binarySearch(key);
+            }
+        }
+        int length = this.sorted.length;
+        int low = fromIndex;
+        int high = fromIndex;
+        int step = 1;
+        while (high < length && this.compare(this.sorted[high], key) < 0)
+        {
+            low = high + 1;
+            high = step >= length - low ? length : low + step;
+            step <<= 1;
+        }
+        return this.binarySearch(key, low, Math.min(high + 1, length));
+    }
+
+    private int binarySearch(Object key, int fromIndex, int toIndex)
+    {
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int compare = this.compare(this.sorted[middle], key);
+            if (compare < 0)
+            {
+                low = middle + 1;
+            }
+            else if (compare > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int compare(Object element, Object key)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) element).compareTo(key)
+                : this.comparator.compare((T) element, (T) key);
+    }
+}
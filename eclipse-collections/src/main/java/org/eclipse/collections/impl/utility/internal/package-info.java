@@ -13,7 +13,7 @@
  * <p>
  *     All the iteration patterns in this package are internal. It is used by iterators specialized for various collections.
  * <p>
- *     This package contains 10 Iteration implementations:
+ *     This package contains 11 Iteration implementations:
  * <ul>
  *     <li>
  *          {@link org.eclipse.collections.impl.utility.internal.DefaultSpeciesNewStrategy} - creates a new instance of a collection based on the class type of collection.
@@ -43,6 +43,9 @@
  *          {@link org.eclipse.collections.impl.utility.internal.SetIterate} - a final class used for internal purposes to iterate over Set.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.impl.utility.internal.SortedArrayIndex} - a search index over a sorted array, used by immutable sorted sets and maps.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.utility.internal.SortedSetIterables} - a class provides for sortedSet algebra operations.
  *     </li>
  * </ul>
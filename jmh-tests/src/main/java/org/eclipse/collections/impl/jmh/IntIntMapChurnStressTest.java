@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import net.openhft.koloboke.collect.map.IntIntMap;
+import net.openhft.koloboke.collect.map.hash.HashIntIntMaps;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Inserts a long stream of distinct keys while removing each key again once {@link #LIVE_COUNT} newer keys have been
+ * inserted, so the maps stay small but see millions of removals. This is the workload which fills open-addressed tables
+ * with removed sentinels.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntIntMapChurnStressTest extends AbstractJMHTestRunner
+{
+    private static final int KEY_COUNT = 2_000_000;
+    private static final int LIVE_COUNT = 50_000;
+    private static final int MAP_SIZE = 1_000_000;
+
+    private int[] intKeys;
+    private Integer[] integerKeys;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        MutableIntSet set = new IntHashSet(KEY_COUNT);
+        while (set.size() < KEY_COUNT)
+        {
+            set.add(random.nextInt());
+        }
+        this.intKeys = set.toArray();
+        this.integerKeys = new Integer[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.integerKeys[i] = this.intKeys[i];
+        }
+    }
+
+    @Benchmark
+    public void ecChurn()
+    {
+        IntIntHashMap map = new IntIntHashMap();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            map.put(this.intKeys[i], i);
+            if (i >= LIVE_COUNT)
+            {
+                map.remove(this.intKeys[i - LIVE_COUNT]);
+            }
+        }
+        if (map.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void ecChurnWithShrinkPolicy()
+    {
+        IntIntHashMap map = new IntIntHashMap(MAP_SIZE);
+        map.setMinLoadFactor(0.125f);
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            map.put(this.intKeys[i], i);
+            if (i >= LIVE_COUNT)
+            {
+                map.remove(this.intKeys[i - LIVE_COUNT]);
+            }
+        }
+        if (map.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void ecChurnThenTrim()
+    {
+        IntIntHashMap map = new IntIntHashMap();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            map.put(this.intKeys[i], i);
+            if (i >= LIVE_COUNT)
+            {
+                map.remove(this.intKeys[i - LIVE_COUNT]);
+            }
+        }
+        map.trimToSize();
+        if (map.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void kolobokeChurn()
+    {
+        IntIntMap map = HashIntIntMaps.newMutableMap();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            map.put(this.intKeys[i], i);
+            if (i >= LIVE_COUNT)
+            {
+                map.remove(this.intKeys[i - LIVE_COUNT]);
+            }
+        }
+        if (map.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void jdkChurn()
+    {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            map.put(this.integerKeys[i], i);
+            if (i >= LIVE_COUNT)
+            {
+                map.remove(this.integerKeys[i - LIVE_COUNT]);
+            }
+        }
+        if (map.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+    }
+
+    @Benchmark
+    public void ecSetChurn()
+    {
+        IntHashSet set = new IntHashSet();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            set.add(this.intKeys[i]);
+            if (i >= LIVE_COUNT)
+            {
+                set.remove(this.intKeys[i - LIVE_COUNT]);
+            }
+        }
+        if (set.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + set.size());
+        }
+    }
+
+    @Benchmark
+    public void ecSetChurnWithShrinkPolicy()
+    {
+        IntHashSet set = new IntHashSet(MAP_SIZE);
+        set.setMinLoadFactor(0.125f);
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            set.add(this.intKeys[i]);
+            if (i >= LIVE_COUNT)
+            {
+                set.remove(this.intKeys[i - LIVE_COUNT]);
+            }
+        }
+        if (set.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + set.size());
+        }
+    }
+
+    @Benchmark
+    public void jdkSetChurn()
+    {
+        Set<Integer> set = new HashSet<>();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            set.add(this.integerKeys[i]);
+            if (i >= LIVE_COUNT)
+            {
+                set.remove(this.integerKeys[i - LIVE_COUNT]);
+            }
+        }
+        if (set.size() != LIVE_COUNT)
+        {
+            throw new AssertionError("size is " + set.size());
+        }
+    }
+}
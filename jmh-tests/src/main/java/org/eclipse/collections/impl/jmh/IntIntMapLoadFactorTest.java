@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.openhft.koloboke.collect.map.IntIntMap;
+import net.openhft.koloboke.collect.map.hash.HashIntIntMaps;
+import org.eclipse.collections.api.factory.map.primitive.MutableIntIntMapFactory;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.IntIntMaps;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares lookups and inserts of {@link IntIntMaps#mutable} maps built with different load factors against the
+ * Koloboke map, to show what each load factor trades between probe length and table size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IntIntMapLoadFactorTest extends AbstractJMHTestRunner
+{
+    private static final int KEY_COUNT = 400_000;
+
+    @Param({"0.25", "0.5", "0.75", "0.875"})
+    public float loadFactor;
+
+    private MutableIntIntMapFactory factory;
+    private MutableIntIntMap intIntEc;
+    private IntIntMap intIntKoloboke;
+    private int[] keys;
+    private int[] missingKeys;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(0x123456789ABCDL);
+        MutableIntSet set = new IntHashSet(KEY_COUNT << 1);
+        while (set.size() < KEY_COUNT << 1)
+        {
+            set.add(random.nextInt());
+        }
+        int[] allKeys = set.toArray();
+        this.keys = new int[KEY_COUNT];
+        this.missingKeys = new int[KEY_COUNT];
+        System.arraycopy(allKeys, 0, this.keys, 0, KEY_COUNT);
+        System.arraycopy(allKeys, KEY_COUNT, this.missingKeys, 0, KEY_COUNT);
+
+        this.factory = IntIntMaps.mutable.withLoadFactor(this.loadFactor);
+        this.intIntEc = this.factory.empty();
+        this.intIntKoloboke = HashIntIntMaps.newMutableMap();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.intIntEc.put(this.keys[i], i);
+            this.intIntKoloboke.put(this.keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public int ecGet()
+    {
+        int result = 0;
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            result += this.intIntEc.get(this.keys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int ecGetMissing()
+    {
+        int result = 0;
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            result += this.intIntEc.get(this.missingKeys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public MutableIntIntMap ecPut()
+    {
+        MutableIntIntMap map = this.factory.empty();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            map.put(this.keys[i], i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int kolobokeGet()
+    {
+        int result = 0;
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            result += this.intIntKoloboke.get(this.keys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int kolobokeGetMissing()
+    {
+        int result = 0;
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            result += this.intIntKoloboke.get(this.missingKeys[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public IntIntMap kolobokePut()
+    {
+        IntIntMap map = HashIntIntMaps.newMutableMap();
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            map.put(this.keys[i], i);
+        }
+        return map;
+    }
+}
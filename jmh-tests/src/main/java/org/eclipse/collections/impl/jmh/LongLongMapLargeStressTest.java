@@ -21,6 +21,7 @@ import org.eclipse.collections.api.set.primitive.MutableLongSet;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
 import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.eclipse.collections.impl.map.offheap.primitive.LongLongOffHeapMap;
 import org.eclipse.collections.impl.set.mutable.primitive.LongHashSet;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -30,6 +31,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 @State(Scope.Thread)
 @BenchmarkMode(Mode.Throughput)
@@ -44,6 +46,7 @@ public class LongLongMapLargeStressTest extends AbstractJMHTestRunner
     public boolean fullyRandom;
     private LongLongMap longLongKoloboke;
     private MutableLongLongMap longLongEc;
+    private LongLongOffHeapMap longLongEcOffHeap;
     private long[] ecLongKeysForMap;
     private long[] kolobokeLongKeysForMap;
 
@@ -69,6 +72,7 @@ public class LongLongMapLargeStressTest extends AbstractJMHTestRunner
     {
         this.longLongKoloboke = HashLongLongMaps.newMutableMap(MAP_SIZE);
         this.longLongEc = new LongLongHashMap(MAP_SIZE);
+        this.longLongEcOffHeap = new LongLongOffHeapMap(MAP_SIZE);
 
         Random random = new Random(0x123456789ABCDL);
 
@@ -85,12 +89,19 @@ public class LongLongMapLargeStressTest extends AbstractJMHTestRunner
         {
             this.longLongKoloboke.put(this.kolobokeLongKeysForMap[i], 5);
             this.longLongEc.put(this.ecLongKeysForMap[i], 5);
+            this.longLongEcOffHeap.put(this.ecLongKeysForMap[i], 5);
         }
 
         this.shuffle(this.ecLongKeysForMap, random);
         this.shuffle(this.kolobokeLongKeysForMap, random);
     }
 
+    @TearDown
+    public void tearDown()
+    {
+        this.longLongEcOffHeap.close();
+    }
+
     private MutableLongSet getRandomKeys(Random random)
     {
         MutableLongSet set = new LongHashSet(KEY_COUNT);
@@ -181,6 +192,25 @@ public class LongLongMapLargeStressTest extends AbstractJMHTestRunner
         }
     }
 
+    @Benchmark
+    public void ecOffHeapGet()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                if (this.longLongEcOffHeap.get(this.ecLongKeysForMap[i]) == 0)
+                {
+                    throw new AssertionError(this.ecLongKeysForMap[i] + " not in map");
+                }
+            }
+            if (this.longLongEcOffHeap.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + this.longLongEcOffHeap.size());
+            }
+        }
+    }
+
     @Benchmark
     public void kolobokePut()
     {
@@ -215,6 +245,24 @@ public class LongLongMapLargeStressTest extends AbstractJMHTestRunner
         }
     }
 
+    @Benchmark
+    public void ecOffHeapPut()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            LongLongOffHeapMap newMap = new LongLongOffHeapMap(MAP_SIZE);
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                newMap.put(this.ecLongKeysForMap[i], 4);
+            }
+            if (newMap.size() != KEY_COUNT)
+            {
+                throw new AssertionError("size is " + newMap.size());
+            }
+            newMap.close();
+        }
+    }
+
     @Benchmark
     public void ecRemove()
     {
@@ -232,6 +280,24 @@ public class LongLongMapLargeStressTest extends AbstractJMHTestRunner
         }
     }
 
+    @Benchmark
+    public void ecOffHeapRemove()
+    {
+        for (int j = 0; j < LOOP_COUNT; j++)
+        {
+            LongLongOffHeapMap newMap = new LongLongOffHeapMap(this.longLongEcOffHeap);
+            for (int i = 0; i < KEY_COUNT; i++)
+            {
+                newMap.remove(this.ecLongKeysForMap[i]);
+            }
+            if (newMap.size() != 0)
+            {
+                throw new AssertionError("size is " + newMap.size());
+            }
+            newMap.close();
+        }
+    }
+
     @Benchmark
     public void kolobokeRemove()
     {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.forkjoin.FJIterate;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.parallel.ParallelRunStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The first tenth of the list is a hundred times as expensive to process as the rest, so fixed sections leave most
+ * threads idle while the first section finishes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SkewedForEachTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int MIN_BATCH_SIZE = 100;
+
+    private final FastList<Integer> integersEC = new FastList<>(Interval.oneTo(SIZE));
+    private final LongAdder result = new LongAdder();
+    private final Procedure<Integer> skewedProcedure = each -> {
+        int rounds = each <= SIZE / 10 ? 100 : 1;
+        long hash = each;
+        for (int i = 0; i < rounds; i++)
+        {
+            hash = hash * 31L + i;
+        }
+        this.result.add(hash);
+    };
+
+    private ExecutorService executorService;
+    private ForkJoinPool forkJoinPool;
+
+    @Setup
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+        this.forkJoinPool.shutdownNow();
+        this.forkJoinPool.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public long parallel_eager_fixed_ec()
+    {
+        ParallelIterate.forEach(this.integersEC, this.skewedProcedure, this.executorService);
+        return this.result.sumThenReset();
+    }
+
+    @Benchmark
+    public long parallel_eager_adaptive_ec()
+    {
+        ParallelIterate.forEachAdaptive(this.integersEC, this.skewedProcedure, MIN_BATCH_SIZE, this.executorService, new ParallelRunStatistics());
+        return this.result.sumThenReset();
+    }
+
+    @Benchmark
+    public long parallel_eager_fixed_forkjoin_ec()
+    {
+        FJIterate.forEach(this.integersEC, this.skewedProcedure, this.forkJoinPool);
+        return this.result.sumThenReset();
+    }
+
+    @Benchmark
+    public long parallel_eager_adaptive_forkjoin_ec()
+    {
+        FJIterate.forEachAdaptive(this.integersEC, this.skewedProcedure, MIN_BATCH_SIZE, this.forkJoinPool, new ParallelRunStatistics());
+        return this.result.sumThenReset();
+    }
+
+    @Benchmark
+    public long parallel_lazy_fixed_ec()
+    {
+        this.integersEC.asParallel(this.executorService, BATCH_SIZE).forEach(this.skewedProcedure);
+        return this.result.sumThenReset();
+    }
+
+    @Benchmark
+    public long parallel_lazy_adaptive_ec()
+    {
+        ListIterableParallelIterable.newAdaptive(this.integersEC, this.executorService, MIN_BATCH_SIZE).forEach(this.skewedProcedure);
+        return this.result.sumThenReset();
+    }
+
+    @Benchmark
+    public long parallel_lazy_jdk()
+    {
+        this.integersEC.parallelStream().forEach(this.skewedProcedure::value);
+        return this.result.sumThenReset();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ToSortedTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    private final List<Integer> integersJDK = new ArrayList<>(Interval.oneTo(SIZE));
+    private final FastList<Integer> integersEC = new FastList<>(Interval.oneTo(SIZE));
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setUp()
+    {
+        Collections.shuffle(this.integersJDK);
+        Collections.shuffle(this.integersEC);
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        this.executorService.shutdownNow();
+        this.executorService.awaitTermination(1L, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public List<Integer> toSortedList_parallel_lazy_jdk()
+    {
+        return this.integersJDK.parallelStream().sorted().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public MutableList<Integer> toSortedList_parallel_lazy_ec()
+    {
+        return this.integersEC.asParallel(this.executorService, BATCH_SIZE).toSortedList();
+    }
+
+    @Benchmark
+    public TreeSet<Integer> toSortedSet_parallel_lazy_jdk()
+    {
+        return this.integersJDK.parallelStream().collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Benchmark
+    public MutableSortedSet<Integer> toSortedSet_parallel_lazy_ec()
+    {
+        return this.integersEC.asParallel(this.executorService, BATCH_SIZE).toSortedSet();
+    }
+}
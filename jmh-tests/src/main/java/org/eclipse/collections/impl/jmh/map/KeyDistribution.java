@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Random;
+
+/**
+ * Key sets for the collision benchmarks, ordered from the friendliest to the most hostile hash distribution.
+ */
+public enum KeyDistribution
+{
+    SEQUENTIAL_INTS
+            {
+                @Override
+                protected Object key(int i)
+                {
+                    return i;
+                }
+            },
+
+    SHARED_PREFIX_STRINGS
+            {
+                @Override
+                protected Object key(int i)
+                {
+                    return "org.eclipse.collections.impl.jmh.map.KeyDistribution#" + i;
+                }
+            },
+
+    /**
+     * Hash codes which only differ above the low 16 bits, the case the spreading function has to repair.
+     */
+    HIGH_BITS_ONLY
+            {
+                @Override
+                protected Object key(int i)
+                {
+                    return new PoorHashKey(i, i << 16);
+                }
+            },
+
+    /**
+     * Eight keys share every hash code, so even a perfectly spread table keeps chained buckets.
+     */
+    SHARED_HASH_CODES
+            {
+                @Override
+                protected Object key(int i)
+                {
+                    return new PoorHashKey(i, i >>> 3);
+                }
+            };
+
+    protected abstract Object key(int i);
+
+    /**
+     * Returns {@code size} distinct keys in a random but repeatable order, so that lookups do not walk the table in
+     * insertion order.
+     */
+    public Object[] keys(int size)
+    {
+        Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            keys[i] = this.key(i);
+        }
+        Random random = new Random(123456789012345L);
+        for (int i = size - 1; i > 0; i--)
+        {
+            int j = random.nextInt(i + 1);
+            Object swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns keys which are equal to none of {@link #keys(int)}, for measuring misses.
+     */
+    public Object[] missingKeys(int size)
+    {
+        Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            keys[i] = this.key(-i - 1);
+        }
+        return keys;
+    }
+
+    private static final class PoorHashKey
+    {
+        private final int id;
+        private final int hashCode;
+
+        private PoorHashKey(int id, int hashCode)
+        {
+            this.id = id;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return this == o || o instanceof PoorHashKey && this.id == ((PoorHashKey) o).id;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
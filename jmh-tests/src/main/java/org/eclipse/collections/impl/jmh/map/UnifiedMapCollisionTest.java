@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares UnifiedMap with java.util.HashMap across the {@link KeyDistribution}s, including the ones which force
+ * UnifiedMap into its chained buckets. The 100M size needs a heap of roughly 16g.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UnifiedMapCollisionTest extends AbstractJMHTestRunner
+{
+    @Param({"1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL_INTS", "SHARED_PREFIX_STRINGS", "HIGH_BITS_ONLY", "SHARED_HASH_CODES"})
+    public KeyDistribution distribution;
+
+    private Object[] keys;
+    private Object[] missingKeys;
+    private UnifiedMap<Object, Object> ecMap;
+    private HashMap<Object, Object> jdkMap;
+
+    @Setup
+    public void setUp()
+    {
+        this.keys = this.distribution.keys(this.size);
+        this.missingKeys = this.distribution.missingKeys(Math.min(this.size, 100_000));
+        this.ecMap = UnifiedMap.newMap(this.size);
+        this.jdkMap = new HashMap<>(this.size);
+        for (Object key : this.keys)
+        {
+            this.ecMap.put(key, key);
+            this.jdkMap.put(key, key);
+        }
+    }
+
+    @Override
+    protected boolean profileAllocations()
+    {
+        return true;
+    }
+
+    @Benchmark
+    public void get_ec()
+    {
+        UnifiedMapCollisionTest.get(this.ecMap, this.keys);
+    }
+
+    @Benchmark
+    public void get_jdk()
+    {
+        UnifiedMapCollisionTest.get(this.jdkMap, this.keys);
+    }
+
+    private static void get(Map<Object, Object> map, Object[] keys)
+    {
+        for (Object key : keys)
+        {
+            if (map.get(key) == null)
+            {
+                throw new AssertionError(key);
+            }
+        }
+    }
+
+    @Benchmark
+    public void getMissing_ec()
+    {
+        UnifiedMapCollisionTest.getMissing(this.ecMap, this.missingKeys);
+    }
+
+    @Benchmark
+    public void getMissing_jdk()
+    {
+        UnifiedMapCollisionTest.getMissing(this.jdkMap, this.missingKeys);
+    }
+
+    private static void getMissing(Map<Object, Object> map, Object[] keys)
+    {
+        for (Object key : keys)
+        {
+            if (map.get(key) != null)
+            {
+                throw new AssertionError(key);
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Object, Object> putPresized_ec()
+    {
+        return UnifiedMapCollisionTest.put(UnifiedMap.newMap(this.size), this.keys);
+    }
+
+    @Benchmark
+    public Map<Object, Object> putPresized_jdk()
+    {
+        return UnifiedMapCollisionTest.put(new HashMap<>(this.size), this.keys);
+    }
+
+    /**
+     * Starts from the default capacity, so every resize and rehash of the chains is included.
+     */
+    @Benchmark
+    public Map<Object, Object> putGrowing_ec()
+    {
+        return UnifiedMapCollisionTest.put(UnifiedMap.newMap(), this.keys);
+    }
+
+    @Benchmark
+    public Map<Object, Object> putGrowing_jdk()
+    {
+        return UnifiedMapCollisionTest.put(new HashMap<>(), this.keys);
+    }
+
+    private static Map<Object, Object> put(Map<Object, Object> map, Object[] keys)
+    {
+        for (Object key : keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    /**
+     * Removes and puts back every key, which leaves the map unchanged between invocations.
+     */
+    @Benchmark
+    public void removeAndPut_ec()
+    {
+        UnifiedMapCollisionTest.removeAndPut(this.ecMap, this.keys);
+    }
+
+    @Benchmark
+    public void removeAndPut_jdk()
+    {
+        UnifiedMapCollisionTest.removeAndPut(this.jdkMap, this.keys);
+    }
+
+    private static void removeAndPut(Map<Object, Object> map, Object[] keys)
+    {
+        for (Object key : keys)
+        {
+            if (map.remove(key) == null)
+            {
+                throw new AssertionError(key);
+            }
+            map.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public void forEachKeyValue_ec(Blackhole blackhole)
+    {
+        this.ecMap.forEachKeyValue((key, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public void iterateEntrySet_ec(Blackhole blackhole)
+    {
+        UnifiedMapCollisionTest.iterateEntrySet(this.ecMap, blackhole);
+    }
+
+    @Benchmark
+    public void iterateEntrySet_jdk(Blackhole blackhole)
+    {
+        UnifiedMapCollisionTest.iterateEntrySet(this.jdkMap, blackhole);
+    }
+
+    private static void iterateEntrySet(Map<Object, Object> map, Blackhole blackhole)
+    {
+        for (Map.Entry<Object, Object> entry : map.entrySet())
+        {
+            blackhole.consume(entry.getValue());
+        }
+    }
+}
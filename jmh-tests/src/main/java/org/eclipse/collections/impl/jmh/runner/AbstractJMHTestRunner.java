@@ -11,9 +11,10 @@
 package org.eclipse.collections.impl.jmh.runner;
 
 import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 import org.openjdk.jmh.runner.options.VerboseMode;
@@ -25,17 +26,28 @@ public abstract class AbstractJMHTestRunner
     {
         int warmupCount = this.warmUpCount();
         int runCount = this.runCount();
-        Options opts = new OptionsBuilder()
+        ChainedOptionsBuilder builder = new OptionsBuilder()
                 .include(".*" + this.getClass().getName() + ".*")
                 .warmupTime(TimeValue.seconds(2))
                 .warmupIterations(warmupCount)
                 .measurementTime(TimeValue.seconds(2))
                 .measurementIterations(runCount)
                 .verbosity(VerboseMode.EXTRA)
-                .forks(2)
-                .build();
+                .forks(2);
+        if (this.profileAllocations())
+        {
+            builder.addProfiler(GCProfiler.class);
+        }
 
-        new Runner(opts).run();
+        new Runner(builder.build()).run();
+    }
+
+    /**
+     * Benchmarks which return true also report allocation rates, the same as running with {@code -prof gc}.
+     */
+    protected boolean profileAllocations()
+    {
+        return false;
     }
 
     protected int runCount()
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.set;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.map.KeyDistribution;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares UnifiedSet with java.util.HashSet across the {@link KeyDistribution}s, including the ones which force
+ * UnifiedSet into its chained buckets. The 100M size needs a heap of roughly 16g.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UnifiedSetCollisionTest extends AbstractJMHTestRunner
+{
+    @Param({"1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"SEQUENTIAL_INTS", "SHARED_PREFIX_STRINGS", "HIGH_BITS_ONLY", "SHARED_HASH_CODES"})
+    public KeyDistribution distribution;
+
+    private Object[] elements;
+    private Object[] missingElements;
+    private UnifiedSet<Object> ecSet;
+    private HashSet<Object> jdkSet;
+
+    @Setup
+    public void setUp()
+    {
+        this.elements = this.distribution.keys(this.size);
+        this.missingElements = this.distribution.missingKeys(Math.min(this.size, 100_000));
+        this.ecSet = UnifiedSet.newSet(this.size);
+        this.jdkSet = new HashSet<>(this.size);
+        for (Object element : this.elements)
+        {
+            this.ecSet.add(element);
+            this.jdkSet.add(element);
+        }
+    }
+
+    @Override
+    protected boolean profileAllocations()
+    {
+        return true;
+    }
+
+    @Benchmark
+    public void contains_ec()
+    {
+        UnifiedSetCollisionTest.contains(this.ecSet, this.elements);
+    }
+
+    @Benchmark
+    public void contains_jdk()
+    {
+        UnifiedSetCollisionTest.contains(this.jdkSet, this.elements);
+    }
+
+    private static void contains(Set<Object> set, Object[] elements)
+    {
+        for (Object element : elements)
+        {
+            if (!set.contains(element))
+            {
+                throw new AssertionError(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public void containsMissing_ec()
+    {
+        UnifiedSetCollisionTest.containsMissing(this.ecSet, this.missingElements);
+    }
+
+    @Benchmark
+    public void containsMissing_jdk()
+    {
+        UnifiedSetCollisionTest.containsMissing(this.jdkSet, this.missingElements);
+    }
+
+    private static void containsMissing(Set<Object> set, Object[] elements)
+    {
+        for (Object element : elements)
+        {
+            if (set.contains(element))
+            {
+                throw new AssertionError(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<Object> addPresized_ec()
+    {
+        return UnifiedSetCollisionTest.add(UnifiedSet.newSet(this.size), this.elements);
+    }
+
+    @Benchmark
+    public Set<Object> addPresized_jdk()
+    {
+        return UnifiedSetCollisionTest.add(new HashSet<>(this.size), this.elements);
+    }
+
+    /**
+     * Starts from the default capacity, so every resize and rehash of the chains is included.
+     */
+    @Benchmark
+    public Set<Object> addGrowing_ec()
+    {
+        return UnifiedSetCollisionTest.add(UnifiedSet.newSet(), this.elements);
+    }
+
+    @Benchmark
+    public Set<Object> addGrowing_jdk()
+    {
+        return UnifiedSetCollisionTest.add(new HashSet<>(), this.elements);
+    }
+
+    private static Set<Object> add(Set<Object> set, Object[] elements)
+    {
+        for (Object element : elements)
+        {
+            set.add(element);
+        }
+        return set;
+    }
+
+    /**
+     * Removes and adds back every element, which leaves the set unchanged between invocations.
+     */
+    @Benchmark
+    public void removeAndAdd_ec()
+    {
+        UnifiedSetCollisionTest.removeAndAdd(this.ecSet, this.elements);
+    }
+
+    @Benchmark
+    public void removeAndAdd_jdk()
+    {
+        UnifiedSetCollisionTest.removeAndAdd(this.jdkSet, this.elements);
+    }
+
+    private static void removeAndAdd(Set<Object> set, Object[] elements)
+    {
+        for (Object element : elements)
+        {
+            if (!set.remove(element))
+            {
+                throw new AssertionError(element);
+            }
+            set.add(element);
+        }
+    }
+
+    @Benchmark
+    public void each_ec(Blackhole blackhole)
+    {
+        this.ecSet.each(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterate_ec(Blackhole blackhole)
+    {
+        UnifiedSetCollisionTest.iterate(this.ecSet, blackhole);
+    }
+
+    @Benchmark
+    public void iterate_jdk(Blackhole blackhole)
+    {
+        UnifiedSetCollisionTest.iterate(this.jdkSet, blackhole);
+    }
+
+    private static void iterate(Set<Object> set, Blackhole blackhole)
+    {
+        for (Object element : set)
+        {
+            blackhole.consume(element);
+        }
+    }
+}
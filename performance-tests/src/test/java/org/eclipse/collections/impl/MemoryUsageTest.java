@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryMeasurable;
+import org.eclipse.collections.impl.memory.MemoryUsage;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the structural memory of each {@link MemoryMeasurable} collection at a few sizes, so that the numbers can be
+ * compared from one release to the next.
+ */
+public class MemoryUsageTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryUsageTest.class);
+
+    private static final int[] SIZES = {10, 1000, 100000, 1000000};
+
+    @Test
+    @Category(MemoryTests.class)
+    public void memoryUsage()
+    {
+        for (int size : SIZES)
+        {
+            FastList<Integer> list = FastList.newList();
+            UnifiedSet<Integer> set = UnifiedSet.newSet();
+            UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+            HashBag<Integer> bag = HashBag.newBag();
+            FastListMultimap<Integer, Integer> multimap = FastListMultimap.newMultimap();
+            IntIntHashMap intIntMap = new IntIntHashMap();
+            IntObjectHashMap<Integer> intObjectMap = new IntObjectHashMap<Integer>();
+            ObjectIntHashMap<Integer> objectIntMap = new ObjectIntHashMap<Integer>();
+            IntHashSet intSet = new IntHashSet();
+            for (int i = 0; i < size; i++)
+            {
+                Integer each = i;
+                list.add(each);
+                set.add(each);
+                map.put(each, each);
+                bag.addOccurrences(each, 2);
+                multimap.put(i % 100, each);
+                intIntMap.put(i, i);
+                intObjectMap.put(i, each);
+                objectIntMap.put(each, i);
+                intSet.add(i);
+            }
+            this.log(size, list);
+            this.log(size, set);
+            this.log(size, map);
+            this.log(size, bag);
+            this.log(size, multimap);
+            this.log(size, intIntMap);
+            this.log(size, intObjectMap);
+            this.log(size, objectIntMap);
+            this.log(size, intSet);
+        }
+    }
+
+    private void log(int size, MemoryMeasurable collection)
+    {
+        MemoryUsage usage = collection.getMemoryUsage(MemoryLayout.COMPRESSED_OOPS);
+        LOGGER.info(
+                "{} of {} elements: {} structural bytes, {} wasted bytes, {} bytes per element, load factor {}",
+                collection.getClass().getSimpleName(),
+                size,
+                usage.getStructuralBytes(),
+                usage.getWastedBytes(),
+                usage.getStructuralBytes() / size,
+                usage.getLoadFactor());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    private final ExecutorService executor = Executors.newFixedThreadPool(20);
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newStripedBag_throws()
+    {
+        ConcurrentHashBag.newStripedBag(0);
+    }
+
+    @Test
+    public void stripedBag()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newStripedBag(3);
+        Assert.assertTrue(bag.isStriped());
+        bag.addOccurrences("1", 5);
+        bag.add("2");
+        Verify.assertBagsEqual(HashBag.newBagWith("1", "1", "1", "1", "1", "2"), bag);
+        Assert.assertTrue(bag.removeOccurrences("1", 10));
+        Assert.assertFalse(bag.removeOccurrences("1", 1));
+        Verify.assertNotContains("1", bag);
+        Assert.assertEquals(1, bag.sizeDistinct());
+        Verify.assertSize(1, bag);
+        Assert.assertEquals(HashBag.newBagWith("2"), bag);
+        Assert.assertTrue(((ConcurrentHashBag<String>) bag.newEmpty()).isStriped());
+        Assert.assertFalse(ConcurrentHashBag.newBag().isStriped());
+    }
+
+    @Test
+    public void concurrentAddOccurrences()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag(1);
+        ParallelIterate.forEach(Interval.oneTo(1000), each -> bag.addOccurrences(each % 10, 2), 10, this.executor);
+        Verify.assertSize(2000, bag);
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(200, bag.occurrencesOf(i));
+        }
+    }
+
+    @Test
+    public void concurrentAddRemove()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag(1);
+        ParallelIterate.forEach(Interval.oneTo(1000), each -> {
+            bag.add(each % 10);
+            Assert.assertTrue(bag.remove(each % 10));
+        }, 10, this.executor);
+        Verify.assertEmpty(bag);
+    }
+
+    @Test
+    public void concurrentStripedAddOccurrences()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newStripedBag();
+        ParallelIterate.forEach(Interval.oneTo(1000), each -> bag.add("hot"), 10, this.executor);
+        Assert.assertEquals(1000, bag.occurrencesOf("hot"));
+        ParallelIterate.forEach(Interval.oneTo(1000), each -> Assert.assertTrue(bag.remove("hot")), 10, this.executor);
+        Verify.assertEmpty(bag);
+    }
+}
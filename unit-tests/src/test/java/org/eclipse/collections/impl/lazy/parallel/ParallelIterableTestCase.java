@@ -265,6 +265,103 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().collect(ignored -> constant).toList().toBag());
     }
 
+    @Test
+    public void collectInt()
+    {
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).toList().toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).toSet(),
+                this.classUnderTest().collectInt(Integer::intValue).toSet());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).select(each -> each > 2).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).select(each -> each > 2).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).reject(each -> each > 2).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).reject(each -> each > 2).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().collect(String::valueOf).toBag(),
+                this.classUnderTest().collectInt(Integer::intValue).collect(String::valueOf).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().sumOfInt(Integer::intValue),
+                this.classUnderTest().collectInt(Integer::intValue).sum());
+        Assert.assertEquals(
+                this.getExpectedCollect().count(each -> each > 2),
+                this.classUnderTest().collectInt(Integer::intValue).count(each -> each > 2));
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).maxIfEmpty(0),
+                this.classUnderTest().collectInt(Integer::intValue).maxIfEmpty(0));
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).minIfEmpty(0),
+                this.classUnderTest().collectInt(Integer::intValue).minIfEmpty(0));
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).average(),
+                this.classUnderTest().collectInt(Integer::intValue).average(),
+                0.0);
+        Assert.assertEquals(
+                this.getExpectedCollect().collectInt(Integer::intValue).detectIfNone(each -> each == 3, 0),
+                this.classUnderTest().collectInt(Integer::intValue).detectIfNone(each -> each == 3, 0));
+        Assert.assertEquals(0, this.classUnderTest().collectInt(Integer::intValue).detectIfNone(each -> each == 5, 0));
+        Assert.assertEquals(
+                this.getExpectedCollect().anySatisfy(each -> each == 4),
+                this.classUnderTest().collectInt(Integer::intValue).anySatisfy(each -> each == 4));
+        Assert.assertFalse(this.classUnderTest().collectInt(Integer::intValue).anySatisfy(each -> each == 5));
+        Assert.assertTrue(this.classUnderTest().collectInt(Integer::intValue).allSatisfy(each -> each > 0));
+        Assert.assertEquals(
+                this.getExpectedCollect().allSatisfy(each -> each > 1),
+                this.classUnderTest().collectInt(Integer::intValue).allSatisfy(each -> each > 1));
+        Assert.assertTrue(this.classUnderTest().collectInt(Integer::intValue).noneSatisfy(each -> each > 4));
+        Assert.assertEquals(0, this.classUnderTest().collectInt(Integer::intValue).select(each -> each > 4).maxIfEmpty(0));
+        Assert.assertEquals(0, this.classUnderTest().collectInt(Integer::intValue).select(each -> each > 4).minIfEmpty(0));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void collectInt_max_empty_throws()
+    {
+        this.classUnderTest().collectInt(Integer::intValue).select(each -> each > 4).max();
+    }
+
+    @Test
+    public void collectLong()
+    {
+        Assert.assertEquals(
+                this.getExpectedCollect().collectLong(Integer::longValue).toBag(),
+                this.classUnderTest().collectLong(Integer::longValue).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().sumOfLong(Integer::longValue),
+                this.classUnderTest().collectLong(Integer::longValue).sum());
+        Assert.assertEquals(
+                this.getExpectedCollect().collectLong(Integer::longValue).maxIfEmpty(0L),
+                this.classUnderTest().collectLong(Integer::longValue).maxIfEmpty(0L));
+        Assert.assertEquals(
+                this.getExpectedCollect().collectLong(Integer::longValue).minIfEmpty(0L),
+                this.classUnderTest().collectLong(Integer::longValue).minIfEmpty(0L));
+    }
+
+    @Test
+    public void collectDouble()
+    {
+        Assert.assertEquals(
+                this.getExpectedCollect().collectDouble(Integer::doubleValue).toBag(),
+                this.classUnderTest().collectDouble(Integer::doubleValue).toBag());
+        Assert.assertEquals(
+                this.getExpectedCollect().sumOfDouble(Integer::doubleValue),
+                this.classUnderTest().collectDouble(Integer::doubleValue).sum(),
+                0.0);
+        Assert.assertEquals(
+                this.getExpectedCollect().collectDouble(Integer::doubleValue).maxIfEmpty(0.0),
+                this.classUnderTest().collectDouble(Integer::doubleValue).maxIfEmpty(0.0),
+                0.0);
+        Assert.assertEquals(
+                this.getExpectedCollect().collectDouble(Integer::doubleValue).minIfEmpty(0.0),
+                this.classUnderTest().collectDouble(Integer::doubleValue).minIfEmpty(0.0),
+                0.0);
+    }
+
     @Test
     public void collectWith()
     {
@@ -568,6 +665,17 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().toSortedList(Comparators.reverseNaturalOrder()));
     }
 
+    @Test
+    public void toSortedList_stable()
+    {
+        if (this.isOrdered())
+        {
+            Assert.assertEquals(
+                    this.getExpected().toSortedList((i1, i2) -> i1 % 3 - i2 % 3),
+                    this.classUnderTest().toSortedList((i1, i2) -> i1 % 3 - i2 % 3));
+        }
+    }
+
     @Test
     public void toSortedListBy()
     {
@@ -651,6 +759,23 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().toSortedMap(id -> id, String::valueOf).keySet().toList());
     }
 
+    @Test
+    public void toSortedMap_duplicateKeys()
+    {
+        if (this.isOrdered())
+        {
+            Verify.assertSortedMapsEqual(
+                    this.getExpected().toSortedMap(id -> id % 3, String::valueOf),
+                    this.classUnderTest().toSortedMap(id -> id % 3, String::valueOf));
+        }
+        else
+        {
+            Assert.assertEquals(
+                    this.getExpected().toSortedMap(id -> id % 3, String::valueOf).keySet(),
+                    this.classUnderTest().toSortedMap(id -> id % 3, String::valueOf).keySet());
+        }
+    }
+
     @Test
     public void toSortedMap_comparator()
     {
@@ -922,6 +1047,77 @@ public abstract class ParallelIterableTestCase
         }
     }
 
+    @Test
+    public void sumByInt()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByInt(isOddFunction, Integer::intValue),
+                this.classUnderTest().sumByInt(isOddFunction, Integer::intValue));
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByLong(isOddFunction, Integer::longValue),
+                this.classUnderTest().sumByLong(isOddFunction, Integer::longValue));
+    }
+
+    @Test
+    public void sumByFloat()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByFloat(isOddFunction, Integer::floatValue),
+                this.classUnderTest().sumByFloat(isOddFunction, Integer::floatValue));
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByDouble(isOddFunction, Integer::doubleValue),
+                this.classUnderTest().sumByDouble(isOddFunction, Integer::doubleValue));
+    }
+
+    @Test
+    public void countBy()
+    {
+        Function<Integer, Boolean> isOddFunction = object -> IntegerPredicates.isOdd().accept(object);
+
+        Assert.assertEquals(
+                this.getExpected().sumByInt(isOddFunction, each -> 1),
+                this.classUnderTest().countBy(isOddFunction));
+    }
+
+    @Test
+    public void groupByAndCountByAcrossBatchSizes()
+    {
+        Function<Integer, Integer> mod7 = each -> each % 7;
+        Integer[] elements = Interval.oneTo(20_000).toArray();
+        RichIterable<Integer> expected = this.getExpectedWith(elements);
+
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+
+            ParallelIterable<Integer> testCollection = this.newWith(elements);
+            Assert.assertEquals("Batch size: " + this.batchSize, expected.groupBy(mod7), testCollection.groupBy(mod7));
+            Assert.assertEquals("Batch size: " + this.batchSize, expected.sumByInt(mod7, each -> 1), testCollection.countBy(mod7));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    expected.aggregateBy(mod7, () -> 0, (sum, each) -> sum + each),
+                    testCollection.aggregateBy(mod7, () -> 0, (sum, each) -> sum + each));
+        }
+    }
+
     @Test
     public void asUnique()
     {
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelSortedMergeTest
+{
+    private final SortedSet<Integer> evens = ParallelSortedMerge.asSortedSet(Interval.evensFromTo(0, 20).toArray(), null);
+
+    @Test
+    public void asSortedSet()
+    {
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(0, 20)), this.evens);
+        Assert.assertEquals(Integer.valueOf(0), this.evens.first());
+        Assert.assertEquals(Integer.valueOf(20), this.evens.last());
+        Assert.assertTrue(this.evens.contains(8));
+        Assert.assertFalse(this.evens.contains(7));
+        Assert.assertFalse(this.evens.contains(22));
+    }
+
+    @Test
+    public void subSet()
+    {
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(4, 8)), this.evens.subSet(3, 10));
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(4, 8)), this.evens.subSet(4, 9));
+        Assert.assertEquals(Collections.singleton(6), this.evens.subSet(4, 10).subSet(5, 8));
+        Assert.assertEquals(Integer.valueOf(4), this.evens.subSet(3, 10).first());
+        Assert.assertEquals(Integer.valueOf(8), this.evens.subSet(3, 10).last());
+        Verify.assertEmpty(this.evens.subSet(5, 5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.evens.subSet(10, 4));
+    }
+
+    @Test
+    public void viewBoundsOutOfRange()
+    {
+        SortedSet<Integer> view = this.evens.subSet(4, 10);
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(4, 8)), view.subSet(4, 10));
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(4, 8)), view.headSet(10));
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(4, 8)), view.tailSet(4));
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.subSet(2, 8));
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.subSet(6, 12));
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.headSet(12));
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.headSet(3));
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.tailSet(10));
+        Verify.assertThrows(IllegalArgumentException.class, () -> view.tailSet(2));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.evens.headSet(6).tailSet(6));
+        Verify.assertThrows(IllegalArgumentException.class, () -> this.evens.tailSet(6).headSet(4));
+    }
+
+    @Test
+    public void headSetAndTailSet()
+    {
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(0, 4)), this.evens.headSet(6));
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(6, 20)), this.evens.tailSet(5));
+        Assert.assertEquals(new TreeSet<>(Interval.evensFromTo(6, 8)), this.evens.tailSet(6).headSet(10));
+        Verify.assertEmpty(this.evens.headSet(0));
+        Verify.assertEmpty(this.evens.tailSet(21));
+    }
+
+    @Test
+    public void reverseComparator()
+    {
+        SortedSet<Integer> reversed = ParallelSortedMerge.asSortedSet(new Object[]{5, 4, 3, 2, 1}, Collections.reverseOrder());
+        Assert.assertEquals(Integer.valueOf(5), reversed.first());
+        Assert.assertEquals(new TreeSet<>(Interval.fromTo(2, 4)), reversed.subSet(4, 1));
+        Assert.assertTrue(reversed.contains(3));
+    }
+}
@@ -10,8 +10,10 @@
 
 package org.eclipse.collections.impl.lazy.parallel.bag;
 
+import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.ParallelBag;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ParallelBagTest extends ParallelBagTestCase
@@ -28,6 +30,23 @@ public class ParallelBagTest extends ParallelBagTestCase
         return HashBag.newBagWith(littleElements).asParallel(this.executorService, this.batchSize);
     }
 
+    @Test
+    public void forEachWithOccurrences_manyBatches()
+    {
+        HashBag<Integer> bag = HashBag.newBag();
+        for (int i = 0; i < 10_000; i++)
+        {
+            bag.addOccurrences(i, i % 3 + 1);
+        }
+        MutableBag<Integer> actual = HashBag.<Integer>newBag().asSynchronized();
+        bag.asParallel(this.executorService, 64).forEachWithOccurrences(actual::addOccurrences);
+        Assert.assertEquals(bag, actual);
+        Assert.assertEquals(bag.size(), bag.asParallel(this.executorService, 64).count(each -> true));
+        Assert.assertEquals(
+                bag.select(each -> each % 2 == 0).collect(each -> each / 2),
+                bag.asParallel(this.executorService, 64).select(each -> each % 2 == 0).collect(each -> each / 2).toBag());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void asParallel_small_batch()
     {
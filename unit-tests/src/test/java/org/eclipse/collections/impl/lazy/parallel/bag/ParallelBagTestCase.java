@@ -56,74 +56,4 @@ public abstract class ParallelBagTestCase extends ParallelIterableTestCase
         this.classUnderTest().forEachWithOccurrences(actual::addOccurrences);
         Assert.assertEquals(this.getExpected().toBag(), actual);
     }
-
-    @Override
-    @Test
-    public void forEach_executionException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void collect_executionException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void anySatisfy_executionException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void allSatisfy_executionException()
-    {
-        // Not applicable
-    }
-
-    @Override
-    @Test
-    public void detect_executionException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void forEach_interruptedException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void anySatisfy_interruptedException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void allSatisfy_interruptedException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void detect_interruptedException()
-    {
-        // Not applicable in serial
-    }
-
-    @Override
-    @Test
-    public void toString_interruptedException()
-    {
-        // Not applicable in serial
-    }
 }
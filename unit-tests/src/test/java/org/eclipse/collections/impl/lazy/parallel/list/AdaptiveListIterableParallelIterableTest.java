@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.parallel.ParallelRunStatistics;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveListIterableParallelIterableTest extends ParallelListIterableTestCase
+{
+    @Override
+    protected ParallelListIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected ParallelListIterable<Integer> newWith(Integer... littleElements)
+    {
+        return ListIterableParallelIterable.newAdaptive(FastList.newListWith(littleElements), this.executorService, this.batchSize);
+    }
+
+    @Override
+    protected ListIterable<Integer> getExpectedWith(Integer... littleElements)
+    {
+        return FastList.newListWith(littleElements);
+    }
+
+    @Test
+    public void split_shrinksBatchesDownToBatchSize()
+    {
+        int size = 100_000;
+        int minBatchSize = 10;
+        MutableList<Integer> batchSizes = ListIterableParallelIterable.newAdaptive(Interval.oneTo(size).toList(), this.executorService, minBatchSize)
+                .split()
+                .collect(batch -> batch.count(Predicates.alwaysTrue()))
+                .toList();
+
+        Assert.assertEquals(size, batchSizes.injectInto(0, Integer::sum));
+        Assert.assertEquals(size / ParallelIterate.getDefaultTaskCount(), batchSizes.getFirst().intValue());
+        Assert.assertTrue(batchSizes.getLast() <= minBatchSize);
+        for (int i = 1; i < batchSizes.size(); i++)
+        {
+            Assert.assertTrue(batchSizes.get(i) <= batchSizes.get(i - 1));
+        }
+    }
+
+    @Test
+    public void split_fixedBatchSize()
+    {
+        MutableList<Integer> batchSizes = ((ListIterableParallelIterable<Integer>) Interval.oneTo(25).toList().asParallel(this.executorService, 10))
+                .split()
+                .collect(batch -> batch.count(Predicates.alwaysTrue()))
+                .toList();
+
+        Assert.assertEquals(FastList.newListWith(10, 10, 5), batchSizes);
+    }
+
+    @Test
+    public void forEach_recordsRunStatistics()
+    {
+        int size = 10_000;
+        int minBatchSize = 10;
+        ListIterableParallelIterable<Integer> parallelIterable =
+                ListIterableParallelIterable.newAdaptive(Interval.oneTo(size).toList(), this.executorService, minBatchSize);
+        AtomicLong sum = new AtomicLong();
+        ParallelRunStatistics statistics = new ParallelRunStatistics();
+        parallelIterable.forEach(each -> sum.addAndGet(each), statistics);
+
+        Assert.assertEquals(size * (size + 1L) / 2L, sum.get());
+        Assert.assertEquals(parallelIterable.split().size(), statistics.getBatchCount());
+        Assert.assertEquals(10, statistics.getWorkerCount());
+        Assert.assertTrue(statistics.getElapsedNanos() > 0L);
+        Assert.assertEquals(
+                Math.max(0L, statistics.getWorkerCount() * statistics.getElapsedNanos() - statistics.getBusyNanos()),
+                statistics.getIdleNanos());
+    }
+
+    @Test
+    public void forEach_recordsEachRunSeparately()
+    {
+        ListIterableParallelIterable<Integer> parallelIterable =
+                new ListIterableParallelIterable<>(Interval.oneTo(25).toList(), this.executorService, 10);
+        ParallelRunStatistics first = new ParallelRunStatistics();
+        ParallelRunStatistics second = new ParallelRunStatistics();
+        parallelIterable.forEach(each -> { }, first);
+        parallelIterable.forEach(each -> { }, second);
+
+        Assert.assertEquals(3, first.getBatchCount());
+        Assert.assertEquals(3, second.getBatchCount());
+    }
+
+    @Test
+    public void forEach_recordsFailedBatch()
+    {
+        ParallelRunStatistics statistics = new ParallelRunStatistics();
+        Verify.assertThrows(RuntimeException.class, () -> ListIterableParallelIterable.newAdaptive(FastList.newListWith(1, 2, 3), this.executorService, 10).forEach(
+                each -> {
+                    throw new IllegalStateException();
+                },
+                statistics));
+
+        Assert.assertEquals(1, statistics.getBatchCount());
+        Assert.assertTrue(statistics.getElapsedNanos() > 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void small_batch()
+    {
+        ListIterableParallelIterable.newAdaptive(FastList.newListWith(1, 2, 3), this.executorService, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void null_executorService()
+    {
+        ListIterableParallelIterable.newAdaptive(FastList.newListWith(1, 2, 3), null, 2);
+    }
+}
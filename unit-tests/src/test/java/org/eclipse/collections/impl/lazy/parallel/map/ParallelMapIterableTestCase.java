@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public abstract class ParallelMapIterableTestCase
+{
+    private static final int SIZE = 1000;
+
+    protected ExecutorService executorService;
+    protected MutableMap<Integer, String> expected;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(10);
+        this.expected = UnifiedMap.newMap();
+        Interval.oneTo(SIZE).each(each -> this.expected.put(each, String.valueOf(each)));
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    protected abstract ParallelMapIterable<Integer, String> newParallelMapIterable(Map<Integer, String> map, int batchSize);
+
+    private ParallelMapIterable<Integer, String> classUnderTest()
+    {
+        return this.newParallelMapIterable(this.expected, 3);
+    }
+
+    @Test
+    public void forEachKeyValue()
+    {
+        MutableMap<Integer, String> actual = ConcurrentHashMap.newMap();
+        this.classUnderTest().forEachKeyValue(actual::put);
+        Verify.assertMapsEqual(this.expected, actual);
+    }
+
+    @Test
+    public void forEachKeyValue_eachPairOnce()
+    {
+        for (int batchSize = 1; batchSize <= 64; batchSize <<= 1)
+        {
+            AtomicInteger count = new AtomicInteger();
+            this.newParallelMapIterable(this.expected, batchSize).forEachKeyValue((key, value) -> count.incrementAndGet());
+            Assert.assertEquals(SIZE, count.get());
+        }
+    }
+
+    @Test
+    public void forEachKeyValue_empty()
+    {
+        AtomicInteger count = new AtomicInteger();
+        this.newParallelMapIterable(UnifiedMap.newMap(), 3).forEachKeyValue((key, value) -> count.incrementAndGet());
+        Assert.assertEquals(0, count.get());
+    }
+
+    @Test
+    public void select()
+    {
+        Assert.assertEquals(
+                this.expected.select((key, value) -> key % 3 == 0),
+                this.classUnderTest().select((key, value) -> key % 3 == 0).toMap());
+    }
+
+    @Test
+    public void reject()
+    {
+        Assert.assertEquals(
+                this.expected.reject((key, value) -> key % 3 == 0),
+                this.classUnderTest().reject((key, value) -> key % 3 == 0).toMap());
+    }
+
+    @Test
+    public void collectValues()
+    {
+        Assert.assertEquals(
+                this.expected.collectValues((key, value) -> value.length() + key),
+                this.classUnderTest().collectValues((key, value) -> value.length() + key).toMap());
+    }
+
+    @Test
+    public void selectCollectValues()
+    {
+        Assert.assertEquals(
+                this.expected.select((key, value) -> key > 500).collectValues((key, value) -> value + '!'),
+                this.classUnderTest().select((key, value) -> key > 500).collectValues((key, value) -> value + '!').toMap());
+    }
+
+    @Test
+    public void count()
+    {
+        Assert.assertEquals(500, this.classUnderTest().count((key, value) -> key % 2 == 0));
+        Assert.assertEquals(0, this.classUnderTest().select((key, value) -> key % 2 == 0).count((key, value) -> key % 2 != 0));
+    }
+
+    @Test
+    public void aggregateBy()
+    {
+        MapIterable<Integer, Integer> actual = this.classUnderTest().aggregateBy(String::length, () -> 0, (sum, each) -> sum + 1);
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues(1, 9, 2, 90, 3, 900, 4, 1),
+                actual);
+    }
+
+    @Test
+    public void aggregateInPlaceBy()
+    {
+        MapIterable<Integer, AtomicInteger> actual = this.classUnderTest().aggregateInPlaceBy(String::length, AtomicInteger::new, (counter, each) -> counter.incrementAndGet());
+        Assert.assertEquals(
+                UnifiedMap.newWithKeysValues(1, 9, 2, 90, 3, 900, 4, 1),
+                actual.collectValues((key, counter) -> counter.get()));
+    }
+
+    @Test
+    public void toMap()
+    {
+        Assert.assertEquals(this.expected, this.classUnderTest().toMap());
+    }
+}
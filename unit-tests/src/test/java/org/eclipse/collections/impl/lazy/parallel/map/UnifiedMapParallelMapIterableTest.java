@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.Map;
+
+import org.eclipse.collections.api.map.ParallelMapIterable;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.junit.Test;
+
+public class UnifiedMapParallelMapIterableTest extends ParallelMapIterableTestCase
+{
+    @Override
+    protected ParallelMapIterable<Integer, String> newParallelMapIterable(Map<Integer, String> map, int batchSize)
+    {
+        return UnifiedMap.newMap(map).asParallel(this.executorService, batchSize);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void asParallel_nullExecutorService()
+    {
+        UnifiedMap.newMap().asParallel(null, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asParallel_zeroBatchSize()
+    {
+        UnifiedMap.newMap().asParallel(this.executorService, 0);
+    }
+}
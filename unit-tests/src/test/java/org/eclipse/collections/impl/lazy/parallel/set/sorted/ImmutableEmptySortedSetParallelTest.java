@@ -21,6 +21,7 @@ import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.function.PassThruFunction0;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -104,6 +105,22 @@ public class ImmutableEmptySortedSetParallelTest extends NonParallelSortedSetIte
         Assert.assertTrue(this.classUnderTest().noneSatisfyWith(Predicates2.<Integer>greaterThanOrEqualTo(), 0));
     }
 
+    @Override
+    public void collectInt()
+    {
+        Verify.assertEmpty(this.classUnderTest().collectInt(Integer::intValue).toList());
+        Assert.assertEquals(0L, this.classUnderTest().collectInt(Integer::intValue).sum());
+        Assert.assertEquals(0, this.classUnderTest().collectInt(Integer::intValue).maxIfEmpty(0));
+        Assert.assertFalse(this.classUnderTest().collectInt(Integer::intValue).anySatisfy(each -> true));
+        Assert.assertTrue(this.classUnderTest().collectInt(Integer::intValue).allSatisfy(each -> false));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void collectInt_average_throws()
+    {
+        this.classUnderTest().collectInt(Integer::intValue).average();
+    }
+
     @Override
     public void appendString_throws()
     {
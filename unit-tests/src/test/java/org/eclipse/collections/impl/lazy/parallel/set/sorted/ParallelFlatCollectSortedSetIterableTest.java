@@ -44,7 +44,7 @@ public class ParallelFlatCollectSortedSetIterableTest extends ParallelListIterab
     @Override
     protected ListIterable<Integer> getExpectedWith(Integer... littleElements)
     {
-        return FastList.newListWith(littleElements)
+        return SortedSets.immutable.with(Comparators.reverseNaturalOrder(), littleElements).toList()
                 .flatCollect(i -> FastList.newListWith(9, 8, 7, 6, 5, 4, 3, 2, 1).select(j -> j <= i).collect(j -> i * 10 + j))
                 .collect(i -> i / 10);
     }
@@ -12,10 +12,12 @@ package org.eclipse.collections.impl.lazy.parallel.set.sorted;
 
 import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.junit.Assert;
 import org.junit.Test;
 
-public class ParallelSortedSetIterableTest extends NonParallelSortedSetIterableTestCase
+public class ParallelSortedSetIterableTest extends ParallelSortedSetIterableTestCase
 {
     @Override
     protected ParallelSortedSetIterable<Integer> classUnderTest()
@@ -29,6 +31,21 @@ public class ParallelSortedSetIterableTest extends NonParallelSortedSetIterableT
         return TreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), littleElements).asParallel(this.executorService, this.batchSize);
     }
 
+    @Test
+    public void manyBatches_keepOrder()
+    {
+        TreeSortedSet<Integer> set = TreeSortedSet.newSet(Comparators.reverseNaturalOrder(), Interval.oneTo(1000));
+        for (int batchSize = 1; batchSize <= 1024; batchSize *= 4)
+        {
+            ParallelSortedSetIterable<Integer> parallel = set.asParallel(this.executorService, batchSize);
+            Assert.assertEquals(set.toList(), parallel.toList());
+            Assert.assertEquals(set.select(each -> each % 3 == 0).toList(), parallel.select(each -> each % 3 == 0).toList());
+            Assert.assertEquals(set.collect(String::valueOf), parallel.collect(String::valueOf).toList());
+            Assert.assertEquals(500, parallel.count(each -> each % 2 == 0));
+            Assert.assertEquals(Integer.valueOf(500), parallel.detect(each -> each == 500));
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void asParallel_small_batch()
     {
@@ -17,7 +17,7 @@ import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.set.sorted.mutable.SortedSetAdapter;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 
-public class SortedSetAdapterParallelSetIterableTest extends NonParallelSortedSetIterableTestCase
+public class SortedSetAdapterParallelSetIterableTest extends ParallelSortedSetIterableTestCase
 {
     @Override
     protected ParallelSortedSetIterable<Integer> classUnderTest()
@@ -44,6 +44,8 @@ import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.math.IntegerSum;
 import org.eclipse.collections.impl.math.Sum;
 import org.eclipse.collections.impl.math.SumProcedure;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.test.SerializeTestHelper;
 import org.eclipse.collections.impl.test.Verify;
@@ -956,6 +958,21 @@ public class FastListTest extends AbstractListTestCase
         Assert.assertEquals("[1, 2, 3, 4]", integers.toString());
     }
 
+    @Test
+    public void getMemoryUsage()
+    {
+        MemoryLayout layout = MemoryLayout.COMPRESSED_OOPS;
+        FastList<Integer> integers = FastList.<Integer>newList(10).with(1, 2, 3);
+        MemoryUsage usage = integers.getMemoryUsage(layout);
+        Assert.assertEquals(layout.shallowSizeOf(integers), usage.getShallowBytes());
+        Assert.assertEquals(usage.getShallowBytes() + 56L, usage.getStructuralBytes());
+        Assert.assertEquals(28L, usage.getWastedBytes());
+        Assert.assertEquals(10, usage.getCapacity());
+        Assert.assertEquals(3, usage.getSize());
+        integers.trimToSize();
+        Assert.assertEquals(0L, integers.getMemoryUsage(layout).getWastedBytes());
+    }
+
     @Override
     @Test
     public void equalsAndHashCode()
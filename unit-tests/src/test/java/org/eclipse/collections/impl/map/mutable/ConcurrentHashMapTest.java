@@ -32,6 +32,7 @@ import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.ParallelIterate;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.statistics.HashTableStatistics;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.ImmutableEntry;
 import org.junit.Assert;
@@ -214,6 +215,26 @@ public class ConcurrentHashMapTest extends ConcurrentHashMapTestCase
         ConcurrentHashMap.newMap(-1);
     }
 
+    @Test
+    public void getHashTableStatistics()
+    {
+        ConcurrentHashMap<Integer, Integer> map = ConcurrentHashMap.newMap();
+        HashTableStatistics empty = map.getHashTableStatistics();
+        Assert.assertEquals(0, empty.getSize());
+        Assert.assertEquals(32, empty.getCapacity());
+        Assert.assertEquals(0, empty.getMaxProbeLength());
+        Assert.assertEquals(0, empty.getResizeCount());
+
+        ParallelIterate.forEach(Interval.oneTo(10000), each -> map.put(each, each));
+        HashTableStatistics grown = map.getHashTableStatistics();
+        Assert.assertEquals(10000, grown.getSize());
+        Assert.assertTrue(grown.getCapacity() >= 10000);
+        Assert.assertTrue(grown.getResizeCount() > 0);
+        Assert.assertTrue(grown.getAverageProbeLength() >= 1.0);
+        Assert.assertTrue(grown.getAverageProbeLength() <= grown.getMaxProbeLength());
+        Assert.assertEquals(0, grown.getTombstones());
+    }
+
     @Override
     @Test
     public void partition_value()
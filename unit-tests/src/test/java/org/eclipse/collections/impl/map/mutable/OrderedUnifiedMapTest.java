@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OrderedUnifiedMap}.
+ */
+public class OrderedUnifiedMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return OrderedUnifiedMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return OrderedUnifiedMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return OrderedUnifiedMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return OrderedUnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return OrderedUnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newMap_throws()
+    {
+        new OrderedUnifiedMap<Integer, Integer>(-1);
+    }
+
+    @Test
+    public void constructorOfPairs()
+    {
+        Assert.assertEquals(
+                OrderedUnifiedMap.newWithKeysValues(1, "one", 2, "two", 3, "three"),
+                OrderedUnifiedMap.newMapWith(Tuples.pair(1, "one"), Tuples.pair(2, "two"), Tuples.pair(3, "three")));
+    }
+
+    @Test
+    public void insertionOrder()
+    {
+        OrderedUnifiedMap<Integer, String> map = OrderedUnifiedMap.newMap();
+        MutableList<Integer> keys = Interval.fromTo(1000, 1).toList();
+        keys.each(each -> map.put(each, each.toString()));
+        Assert.assertEquals(keys, FastList.newList(map.keySet()));
+        Assert.assertEquals(keys.collect(String::valueOf), FastList.newList(map.values()));
+        Assert.assertEquals("1000", map.getFirst());
+        Assert.assertEquals("1", map.getLast());
+
+        Assert.assertEquals("500", map.put(500, "five hundred"));
+        Assert.assertEquals(keys, map.keysView().toList());
+        Assert.assertEquals("{3=3, 2=2, 1=1}", OrderedUnifiedMap.newWithKeysValues(3, "3", 2, "2", 1, "1").toString());
+    }
+
+    @Test
+    public void removeAndReinsert()
+    {
+        OrderedUnifiedMap<Integer, String> map = OrderedUnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4");
+        Assert.assertEquals("2", map.remove(2));
+        Assert.assertNull(map.remove(2));
+        Assert.assertEquals("4", map.removeKey(4));
+        Assert.assertEquals("3", map.getLast());
+        map.put(2, "two");
+        Assert.assertEquals(FastList.newListWith(1, 3, 2), map.keysView().toList());
+        Assert.assertEquals(FastList.newListWith("1", "3", "two"), map.valuesView().toList());
+        Verify.assertSize(3, map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "two", 3, "3"), map);
+    }
+
+    @Test
+    public void compaction()
+    {
+        OrderedUnifiedMap<Integer, Integer> map = OrderedUnifiedMap.newMap();
+        for (int i = 0; i < 10_000; i++)
+        {
+            map.put(i, i);
+            if (i % 3 != 0)
+            {
+                map.remove(i - 1);
+            }
+        }
+        MutableList<Integer> expected = Interval.zeroTo(9_999).select(each -> each % 3 == 2 || each == 9_999).toList();
+        Assert.assertEquals(expected, map.keysView().toList());
+        expected.each(each -> Assert.assertEquals(each, map.get(each)));
+
+        for (int i = 0; i < 100_000; i++)
+        {
+            map.put(-i - 1, i);
+            map.remove(-i - 1);
+        }
+        Assert.assertEquals(expected, map.keysView().toList());
+        map.clear();
+        Verify.assertEmpty(map);
+        map.put(1, 1);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 1), map);
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        OrderedUnifiedMap<Integer, String> map = OrderedUnifiedMap.newWithKeysValues(1, "1", null, "null", 2, null);
+        Assert.assertTrue(map.containsKey(null));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals("null", map.get(null));
+        Assert.assertNull(map.get(2));
+        Assert.assertEquals(FastList.newListWith(1, null, 2), map.keysView().toList());
+        Assert.assertEquals("null", map.remove(null));
+        Assert.assertFalse(map.containsKey(null));
+        Assert.assertEquals(FastList.newListWith(1, 2), map.keysView().toList());
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        OrderedUnifiedMap<Integer, Integer> map = OrderedUnifiedMap.newMap();
+        Interval.oneTo(100).each(each -> map.put(each, each));
+        Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next().getKey() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Interval.oneToBy(100, 2).toList(), map.keysView().toList());
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+
+        Map.Entry<Integer, Integer> first = map.entrySet().iterator().next();
+        first.setValue(-1);
+        Assert.assertEquals(Integer.valueOf(-1), map.get(1));
+    }
+
+    @Test
+    public void removeDuringIteration()
+    {
+        OrderedUnifiedMap<Integer, Integer> map = OrderedUnifiedMap.newMap();
+        Interval.oneTo(100).each(each -> map.put(each, each));
+        Iterator<Integer> iterator = map.keySet().iterator();
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+
+        // Removing without compacting leaves the positions held by the iterator valid
+        Interval.fromTo(2, 50).each(map::remove);
+        Assert.assertEquals(Integer.valueOf(51), iterator.next());
+        iterator.remove();
+        Assert.assertFalse(map.containsKey(51));
+
+        // Once more than half of the positions are removed, the map compacts and the iterator fails fast
+        Interval.fromTo(52, 99).each(map::remove);
+        Verify.assertThrows(ConcurrentModificationException.class, iterator::next);
+        Assert.assertEquals(FastList.newListWith(1, 100), FastList.newList(map.keySet()));
+
+        Iterator<Integer> clearedIterator = map.keySet().iterator();
+        map.clear();
+        Verify.assertThrows(ConcurrentModificationException.class, clearedIterator::next);
+    }
+
+    @Test
+    public void serializationKeepsOrder()
+    {
+        OrderedUnifiedMap<Integer, String> map = OrderedUnifiedMap.newWithKeysValues(3, "3", 1, "1", null, null, 2, "2");
+        map.remove(1);
+        OrderedUnifiedMap<Integer, String> deserialized = SerializeTestHelper.serializeDeserialize(map);
+        Verify.assertEqualsAndHashCode(map, deserialized);
+        Assert.assertEquals(FastList.newListWith(3, null, 2), deserialized.keysView().toList());
+    }
+}
@@ -14,6 +14,8 @@ import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.map.MutableMap;
@@ -21,12 +23,16 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.block.function.PassThruFunction0;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
 import org.eclipse.collections.impl.math.Sum;
 import org.eclipse.collections.impl.math.SumProcedure;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.statistics.HashTableStatistics;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.Assert;
@@ -68,6 +74,39 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         return UnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
     }
 
+    @Test
+    public void parallelPutAll()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            UnifiedMap<Integer, String> source = UnifiedMap.newMap();
+            for (int i = 0; i < 50000; i++)
+            {
+                source.put(i, String.valueOf(i));
+            }
+            source.put(null, "null");
+
+            UnifiedMap<Integer, String> map = UnifiedMap.newWithKeysValues(-1, "-1", 1, "one", 17, "seventeen");
+            map.parallelPutAll(source, executorService);
+            UnifiedMap<Integer, String> expected = UnifiedMap.newWithKeysValues(-1, "-1", 1, "one", 17, "seventeen");
+            expected.putAll(source);
+            Verify.assertMapsEqual(expected, map);
+            Verify.assertSize(50002, map);
+            Assert.assertEquals("1", map.get(1));
+            Assert.assertEquals("null", map.get(null));
+            Assert.assertNull(map.put(50000, "50000"));
+
+            UnifiedMap<Integer, String> small = UnifiedMap.newWithKeysValues(1, "one");
+            small.parallelPutAll(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), executorService);
+            Verify.assertMapsEqual(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), small);
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void newMap_throws()
     {
@@ -456,6 +495,59 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         Assert.assertEquals(16, map2.getMapMemoryUsedInWords());
     }
 
+    @Test
+    public void getMemoryUsage()
+    {
+        MemoryLayout layout = MemoryLayout.COMPRESSED_OOPS;
+        UnifiedMap<String, String> map = UnifiedMap.newMap();
+        MemoryUsage empty = map.getMemoryUsage(layout);
+        Assert.assertEquals(layout.shallowSizeOf(map), empty.getShallowBytes());
+        Assert.assertEquals(empty.getShallowBytes() + 144L, empty.getStructuralBytes());
+        Assert.assertEquals(128L, empty.getWastedBytes());
+        Assert.assertEquals(16, empty.getCapacity());
+        Assert.assertEquals(0, empty.getSize());
+        map.put("1", "1");
+        Assert.assertEquals(120L, map.getMemoryUsage(layout).getWastedBytes());
+        Assert.assertEquals(1.0 / 16, map.getMemoryUsage(layout).getLoadFactor(), 0.0);
+
+        UnifiedMap<Integer, Integer> map2 = this.mapWithCollisionsOfSize(2);
+        MemoryUsage chained = map2.getMemoryUsage(layout);
+        Assert.assertEquals(chained.getShallowBytes() + 48L + 32L, chained.getStructuralBytes());
+        Assert.assertEquals(24L, chained.getWastedBytes());
+        Assert.assertEquals(4, chained.getCapacity());
+        Assert.assertEquals(2, chained.getSize());
+        Assert.assertEquals(1, chained.getCollidingBuckets());
+    }
+
+    @Test
+    public void getHashTableStatistics()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        HashTableStatistics empty = map.getHashTableStatistics();
+        Assert.assertEquals(0, empty.getSize());
+        Assert.assertEquals(16, empty.getCapacity());
+        Assert.assertEquals(0.0, empty.getAverageProbeLength(), 0.0);
+        Assert.assertEquals(0, empty.getMaxProbeLength());
+        Assert.assertEquals(0, empty.getResizeCount());
+
+        Interval.oneTo(100).forEach(Procedures.cast(each -> map.put(each, each)));
+        HashTableStatistics grown = map.getHashTableStatistics();
+        Assert.assertEquals(100, grown.getSize());
+        Assert.assertEquals(256, grown.getCapacity());
+        Assert.assertEquals(4, grown.getResizeCount());
+        Assert.assertEquals(0, grown.getInPlaceRehashCount());
+        Assert.assertEquals(0, grown.getTombstones());
+
+        UnifiedMap<Integer, Integer> chainedMap = this.mapWithCollisionsOfSize(2);
+        HashTableStatistics chained = chainedMap.getHashTableStatistics();
+        Assert.assertEquals(2, chained.getSize());
+        Assert.assertEquals(1, chained.getCollidingBuckets());
+        Assert.assertEquals(1.5, chained.getAverageProbeLength(), 0.0);
+        Assert.assertEquals(2, chained.getMaxProbeLength());
+        chainedMap.remove(COLLISION_1);
+        Assert.assertEquals(1, chainedMap.getHashTableStatistics().getMaxProbeLength());
+    }
+
     @Test
     public void getCollidingBuckets()
     {
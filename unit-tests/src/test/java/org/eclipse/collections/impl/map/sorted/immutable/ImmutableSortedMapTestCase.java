@@ -38,6 +38,7 @@ import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.MapIterableTestCase;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.Assert;
@@ -107,6 +108,18 @@ public abstract class ImmutableSortedMapTestCase extends MapIterableTestCase
         Verify.assertEqualsAndHashCode(sortedMap, this.classUnderTest(REV_INT_COMPARATOR));
     }
 
+    @Test
+    public void getAll()
+    {
+        ImmutableSortedMap<Integer, String> map = this.classUnderTest();
+        Assert.assertEquals(
+                FastList.newListWith(map.get(1), null, map.get(2)),
+                map.getAll(FastList.newListWith(1, 0, 2)));
+        Assert.assertEquals(
+                FastList.newListWith(map.get(1), map.get(2), null),
+                map.getAll(TreeSortedSet.newSetWith(1, 2, 5)));
+    }
+
     @Override
     @Test
     public void forEachKeyValue()
@@ -28,6 +28,7 @@ import org.eclipse.collections.impl.factory.SortedMaps;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -287,6 +288,38 @@ public class ImmutableTreeMapTest extends ImmutableSortedMapTestCase
         new ImmutableTreeMap<Integer, String>(SortedMaps.mutable.of(1, "1", 2, "2", 3, "3", 4, "4")).tailMap(0);
     }
 
+    @Test
+    public void getLargeMap()
+    {
+        MutableSortedMap<Integer, String> map = SortedMaps.mutable.of();
+        Interval.fromToBy(0, 1998, 2).each(each -> map.put(each, String.valueOf(each)));
+        ImmutableSortedMap<Integer, String> immutableMap = map.toImmutable();
+        for (int i = -1; i < 2000; i++)
+        {
+            Assert.assertEquals(map.get(i), immutableMap.get(i));
+            Assert.assertEquals(map.containsKey(i), immutableMap.containsKey(i));
+        }
+    }
+
+    @Test
+    public void getAllLargeMap()
+    {
+        MutableSortedMap<Integer, String> map = SortedMaps.mutable.of();
+        Interval.fromToBy(0, 1998, 2).each(each -> map.put(each, String.valueOf(each)));
+        ImmutableSortedMap<Integer, String> immutableMap = map.toImmutable();
+        Assert.assertEquals(
+                FastList.newListWith("0", null, "500", "1998", null),
+                immutableMap.getAll(TreeSortedSet.newSetWith(0, 1, 500, 1998, 2001)));
+        Assert.assertEquals(
+                FastList.newListWith("500", null, "0", "500"),
+                immutableMap.getAll(FastList.newListWith(500, 501, 0, 500)));
+        Assert.assertEquals(
+                FastList.newListWith("1998", "500", null),
+                immutableMap.getAll(TreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 1998, 500, -1)));
+        Assert.assertTrue(immutableMap.castToSortedMap().keySet().containsAll(TreeSortedSet.newSetWith(0, 2, 1998)));
+        Assert.assertFalse(immutableMap.castToSortedMap().keySet().containsAll(TreeSortedSet.newSetWith(0, 3, 1998)));
+    }
+
     @Test
     public void ofSortedMap()
     {
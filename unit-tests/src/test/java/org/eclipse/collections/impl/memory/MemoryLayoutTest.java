@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.memory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MemoryLayoutTest
+{
+    @Test
+    public void arrays()
+    {
+        MemoryLayout layout = MemoryLayout.COMPRESSED_OOPS;
+        Assert.assertEquals(0L, layout.shallowSizeOf(null));
+        Assert.assertEquals(16L, layout.shallowSizeOf(new Object[0]));
+        Assert.assertEquals(32L, layout.shallowSizeOf(new Object[3]));
+        Assert.assertEquals(40L, layout.shallowSizeOf(new long[3]));
+        Assert.assertEquals(24L, layout.shallowSizeOf(new int[1]));
+        Assert.assertEquals(24L, layout.shallowSizeOf(new byte[8]));
+        Assert.assertEquals(4, layout.elementSizeOf(new String[0]));
+        Assert.assertEquals(2, layout.elementSizeOf(new char[0]));
+
+        Assert.assertEquals(48L, MemoryLayout.UNCOMPRESSED_OOPS.shallowSizeOf(new Object[3]));
+        Assert.assertEquals(8, MemoryLayout.UNCOMPRESSED_OOPS.elementSizeOf(new String[0]));
+    }
+
+    @Test
+    public void instances()
+    {
+        Assert.assertEquals(16L, MemoryLayout.COMPRESSED_OOPS.shallowSizeOf(new Object()));
+        Assert.assertEquals(32L, MemoryLayout.COMPRESSED_OOPS.shallowSizeOf(new Node()));
+        Assert.assertEquals(40L, MemoryLayout.COMPRESSED_OOPS.shallowSizeOf(new SubNode()));
+        Assert.assertEquals(40L, MemoryLayout.UNCOMPRESSED_OOPS.shallowSizeOf(new Node()));
+        Assert.assertEquals(MemoryLayout.COMPRESSED_OOPS.instanceSizeOf(Node.class), MemoryLayout.COMPRESSED_OOPS.shallowSizeOf(new Node()));
+    }
+
+    @Test
+    public void memoryUsage()
+    {
+        MemoryUsage usage = new MemoryUsage(16L, 80L, 24L, 3, 4, 1);
+        Assert.assertEquals(0.75, usage.getLoadFactor(), 0.0);
+        Assert.assertEquals(0.0, new MemoryUsage(16L, 16L, 0L, 0, 0, 0).getLoadFactor(), 0.0);
+
+        MemoryUsage nested = usage.withNested(new MemoryUsage(24L, 64L, 8L, 2, 10, 0));
+        Assert.assertEquals(16L, nested.getShallowBytes());
+        Assert.assertEquals(144L, nested.getStructuralBytes());
+        Assert.assertEquals(32L, nested.getWastedBytes());
+        Assert.assertEquals(3, nested.getSize());
+        Assert.assertEquals(4, nested.getCapacity());
+        Assert.assertEquals(1, nested.getCollidingBuckets());
+    }
+
+    private static class Node
+    {
+        private long value;
+        private int count;
+        private Object next;
+    }
+
+    private static final class SubNode extends Node
+    {
+        private Object previous;
+        private boolean flag;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.bag;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentHashBagMultimap}.
+ */
+public class ConcurrentHashBagMultimapTest extends AbstractMutableBagMultimapTestCase
+{
+    private final ExecutorService executor = Executors.newFixedThreadPool(20);
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimap()
+    {
+        return ConcurrentHashBagMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentHashBagMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    protected <K, V> ConcurrentHashBagMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentHashBagMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> HashBag<V> createCollection(V... args)
+    {
+        return HashBag.newBagWith(args);
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        super.testToString();
+
+        MutableMultimap<String, Integer> multimap =
+                this.newMultimapWithKeysValues("One", 1, "One", 2);
+        String toString = multimap.toString();
+        Assert.assertTrue("{One=[1, 2]}".equals(toString) || "{One=[2, 1]}".equals(toString));
+    }
+
+    @Test
+    public void getIsSnapshot()
+    {
+        ConcurrentHashBagMultimap<String, Integer> multimap = ConcurrentHashBagMultimap.newMultimap();
+        multimap.putOccurrences("A", 1, 2);
+        MutableBag<Integer> snapshot = multimap.get("A");
+        multimap.put("A", 2);
+        Assert.assertEquals(HashBag.newBagWith(1, 1), snapshot);
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 2), multimap.get("A"));
+        Verify.assertSize(3, multimap);
+    }
+
+    @Test
+    public void concurrentPutOccurrences()
+    {
+        ConcurrentHashBagMultimap<Integer, Integer> multimap = ConcurrentHashBagMultimap.newMultimap();
+        ParallelIterate.forEach(Interval.oneTo(1000), each -> multimap.putOccurrences(each % 10, each % 2, 2), 10, this.executor);
+        Verify.assertSize(2000, multimap);
+        for (int i = 0; i < 10; i++)
+        {
+            Assert.assertEquals(200, multimap.get(i).occurrencesOf(i % 2));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentFastListMultimap}.
+ */
+public class ConcurrentFastListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    private final ExecutorService executor = Executors.newFixedThreadPool(20);
+
+    @After
+    public void tearDown()
+    {
+        this.executor.shutdown();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentFastListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentFastListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void getIsSnapshot()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+        multimap.put("A", 1);
+        multimap.put("A", 2);
+        MutableList<Integer> snapshot = multimap.get("A");
+        multimap.put("A", 3);
+        multimap.remove("A", 1);
+        Assert.assertEquals(FastList.newListWith(1, 2), snapshot);
+        Assert.assertEquals(FastList.newListWith(2, 3), multimap.get("A"));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> snapshot.add(4));
+    }
+
+    @Test
+    public void removeFirstOccurrence()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+        multimap.putAll("A", FastList.newListWith(1, 2, 1, 3));
+        Assert.assertTrue(multimap.remove("A", 1));
+        Assert.assertEquals(FastList.newListWith(2, 1, 3), multimap.get("A"));
+        Assert.assertTrue(multimap.remove("A", 3));
+        Assert.assertEquals(FastList.newListWith(2, 1), multimap.get("A"));
+        Assert.assertFalse(multimap.remove("A", 4));
+        Assert.assertTrue(multimap.remove("A", 2));
+        Assert.assertTrue(multimap.remove("A", 1));
+        Assert.assertFalse(multimap.containsKey("A"));
+        Verify.assertEmpty(multimap);
+    }
+
+    @Test
+    public void concurrentPutToHotKeys()
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+        ParallelIterate.forEach(Interval.oneTo(10000), each -> multimap.put(each % 3, each), 10, this.executor);
+        Verify.assertSize(10000, multimap);
+        Assert.assertEquals(3, multimap.sizeDistinct());
+        Assert.assertEquals(Interval.oneTo(10000), multimap.valuesView().toSortedList());
+        for (int key = 0; key < 3; key++)
+        {
+            int expectedKey = key;
+            Assert.assertTrue(multimap.get(key).allSatisfy(each -> each % 3 == expectedKey));
+        }
+    }
+
+    @Test
+    public void concurrentPutAndRemove()
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+        ParallelIterate.forEach(Interval.oneTo(1000), each -> {
+            multimap.put(each % 10, each);
+            Assert.assertTrue(multimap.remove(each % 10, each));
+        }, 10, this.executor);
+        Verify.assertEmpty(multimap);
+        Assert.assertEquals(0, multimap.sizeDistinct());
+    }
+
+    @Test
+    public void putAllInParallel()
+    {
+        FastListMultimap<Integer, Integer> source = FastListMultimap.newMultimap();
+        Interval.oneTo(1000).each(each -> source.put(each % 37, each));
+        ConcurrentFastListMultimap<Integer, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+        multimap.put(0, 0);
+        Assert.assertTrue(multimap.putAllInParallel(source, 4, this.executor));
+        Verify.assertSize(1001, multimap);
+        Assert.assertEquals(source.get(5), multimap.get(5));
+        Assert.assertEquals(FastList.newListWith(0).withAll(source.get(0)), multimap.get(0));
+        Assert.assertFalse(multimap.putAllInParallel(FastListMultimap.<Integer, Integer>newMultimap(), 4, this.executor));
+    }
+}
@@ -14,6 +14,9 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryUsage;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.Assert;
 import org.junit.Test;
@@ -122,4 +125,28 @@ public class FastListMultimapTest extends AbstractMutableListMultimapTestCase
         Assert.assertEquals(FastList.newListWith("Three", "ThreeThree", "Three"), actual.get(Integer.valueOf(3)).toList());
         Assert.assertEquals(FastList.newListWith("Four", "FourFour", "Four"), actual.get(Integer.valueOf(4)).toList());
     }
+
+    @Test
+    public void getMemoryUsage()
+    {
+        MemoryLayout layout = MemoryLayout.COMPRESSED_OOPS;
+        FastListMultimap<Integer, String> multimap = FastListMultimap.newMultimap();
+        multimap.put(1, "1");
+        multimap.put(1, "One");
+        multimap.put(2, "2");
+        MemoryUsage usage = multimap.getMemoryUsage(layout);
+
+        MemoryUsage mapUsage = UnifiedMap.<Integer, String>newMap().withKeysValues(1, "1", 2, "2").getMemoryUsage(layout);
+        MemoryUsage list1Usage = FastList.<String>newList(1).with("1", "One").getMemoryUsage(layout);
+        MemoryUsage list2Usage = FastList.newListWith("2").getMemoryUsage(layout);
+        Assert.assertEquals(layout.shallowSizeOf(multimap), usage.getShallowBytes());
+        Assert.assertEquals(
+                usage.getShallowBytes() + mapUsage.getStructuralBytes() + list1Usage.getStructuralBytes() + list2Usage.getStructuralBytes(),
+                usage.getStructuralBytes());
+        Assert.assertEquals(
+                mapUsage.getWastedBytes() + list1Usage.getWastedBytes() + list2Usage.getWastedBytes(),
+                usage.getWastedBytes());
+        Assert.assertEquals(2, usage.getSize());
+        Assert.assertEquals(mapUsage.getCapacity(), usage.getCapacity());
+    }
 }
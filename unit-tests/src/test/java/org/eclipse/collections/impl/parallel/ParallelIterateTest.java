@@ -274,6 +274,106 @@ public class ParallelIterateTest
                         5));
     }
 
+    @Test
+    public void forEachAdaptive()
+    {
+        this.iterables.forEach(Procedures.cast(each -> {
+            AtomicInteger sum = new AtomicInteger();
+            ParallelIterate.forEachAdaptive(each, (Procedure<Integer>) sum::addAndGet);
+            Assert.assertEquals(each.getClass().getSimpleName(), 20100, sum.get());
+        }));
+    }
+
+    @Test
+    public void forEachAdaptive_skewedCost_visitsEachElementOnce()
+    {
+        MutableList<Integer> list = Interval.zeroTo(999).toList();
+        AtomicInteger[] visits = new AtomicInteger[list.size()];
+        for (int i = 0; i < visits.length; i++)
+        {
+            visits[i] = new AtomicInteger();
+        }
+        ParallelRunStatistics statistics = new ParallelRunStatistics();
+        ParallelIterate.forEachAdaptive(list, each -> {
+            if (each < 100)
+            {
+                Thread.yield();
+            }
+            visits[each].incrementAndGet();
+        }, 10, this.executor, statistics);
+
+        Assert.assertTrue(ArrayIterate.allSatisfy(visits, each -> each.get() == 1));
+        Assert.assertTrue(statistics.getBatchCount() >= statistics.getWorkerCount());
+        Assert.assertTrue(statistics.getBatchCount() <= list.size() / 10);
+        Assert.assertTrue(statistics.getElapsedNanos() > 0L);
+        Assert.assertEquals(
+                Math.max(0L, statistics.getWorkerCount() * statistics.getElapsedNanos() - statistics.getBusyNanos()),
+                statistics.getIdleNanos());
+    }
+
+    @Test
+    public void forEachAdaptive_sizesWorkersToExecutor()
+    {
+        ParallelRunStatistics statistics = new ParallelRunStatistics();
+        ParallelIterate.forEachAdaptive(Interval.zeroTo(999).toList(), each -> { }, 10, this.executor, statistics);
+        Assert.assertEquals(2, statistics.getWorkerCount());
+
+        ParallelIterate.forEachAdaptive(Interval.zeroTo(999).toList(), each -> { }, 10, 3, this.executor, statistics);
+        Assert.assertEquals(3, statistics.getWorkerCount());
+
+        ParallelIterate.forEachAdaptive(Interval.zeroTo(19).toList(), each -> { }, 10, 3, this.executor, statistics);
+        Assert.assertEquals(2, statistics.getWorkerCount());
+    }
+
+    @Test
+    public void getMaxThreadCount()
+    {
+        Assert.assertEquals(2, ParallelIterate.getMaxThreadCount(this.executor));
+        Assert.assertEquals(ParallelIterate.getDefaultMaxThreadPoolSize(), ParallelIterate.getMaxThreadCount(Runnable::run));
+        ExecutorService cachedExecutor = Executors.newCachedThreadPool();
+        try
+        {
+            Assert.assertEquals(ParallelIterate.getDefaultMaxThreadPoolSize(), ParallelIterate.getMaxThreadCount(cachedExecutor));
+        }
+        finally
+        {
+            cachedExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void forEachAdaptive_empty()
+    {
+        ParallelRunStatistics statistics = new ParallelRunStatistics();
+        ParallelIterate.forEachAdaptive(FastList.<Integer>newList(), EXCEPTION_PROCEDURE, 10, this.executor, statistics);
+        Assert.assertEquals(0, statistics.getBatchCount());
+        Assert.assertEquals(1, statistics.getWorkerCount());
+    }
+
+    @Test
+    public void forEachAdaptive_withException()
+    {
+        Verify.assertThrows(
+                RuntimeException.class,
+                () -> ParallelIterate.forEachAdaptive(
+                        ParallelIterateTest.createIntegerList(50),
+                        EXCEPTION_PROCEDURE,
+                        1,
+                        this.executor,
+                        new ParallelRunStatistics()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forEachAdaptive_smallBatch()
+    {
+        ParallelIterate.forEachAdaptive(
+                ParallelIterateTest.createIntegerList(50),
+                EXCEPTION_PROCEDURE,
+                0,
+                this.executor,
+                new ParallelRunStatistics());
+    }
+
     @Test
     public void testForEachWithIndexToArrayUsingFastListSerialPath()
     {
@@ -12,11 +12,14 @@ package org.eclipse.collections.impl.parallel;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ParallelMapIterateTest
@@ -75,6 +78,40 @@ public class ParallelMapIterateTest
         Verify.assertMapsEqual(concurrentMap, map);
     }
 
+    @Test
+    public void forEachKeyValueOverConcurrentHashMap()
+    {
+        ConcurrentMap<Integer, Integer> concurrentMap = new ConcurrentHashMap<>();
+        MutableMap<Integer, Integer> map = org.eclipse.collections.impl.map.mutable.ConcurrentHashMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each, -each));
+        ParallelMapIterate.forEachKeyValue(map, concurrentMap::put, 10, 8);
+        Verify.assertMapsEqual(concurrentMap, map);
+    }
+
+    @Test
+    public void forEachKeyValueOverConcurrentHashMapWhileAnotherThreadPuts() throws InterruptedException
+    {
+        MutableMap<Integer, Integer> map = org.eclipse.collections.impl.map.mutable.ConcurrentHashMap.newMap();
+        Interval.oneTo(1000).each(each -> map.put(each, -each));
+        CountDownLatch writerStarted = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            writerStarted.countDown();
+            for (int i = 1001; i <= 200_000; i++)
+            {
+                map.put(i, -i);
+            }
+        });
+        writer.start();
+        writerStarted.await();
+
+        ConcurrentMap<Integer, Integer> concurrentMap = new ConcurrentHashMap<>();
+        ParallelMapIterate.forEachKeyValue(map, concurrentMap::put, 10, 8);
+        writer.join();
+
+        Interval.oneTo(1000).each(each -> Assert.assertEquals(Integer.valueOf(-each), concurrentMap.get(each)));
+        concurrentMap.forEach((key, value) -> Assert.assertEquals(Integer.valueOf(-key), value));
+    }
+
     @Test
     public void classIsNonInstantiable()
     {
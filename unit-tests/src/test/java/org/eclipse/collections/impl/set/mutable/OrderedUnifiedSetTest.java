@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OrderedUnifiedSet}.
+ */
+public class OrderedUnifiedSetTest extends AbstractMutableSetTestCase
+{
+    @Override
+    protected <T> OrderedUnifiedSet<T> newWith(T... littleElements)
+    {
+        return OrderedUnifiedSet.newSetWith(littleElements);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void newSet_throws()
+    {
+        new OrderedUnifiedSet<Integer>(-1);
+    }
+
+    @Test
+    public void insertionOrder()
+    {
+        MutableList<Integer> expected = Interval.fromTo(1000, 1).toList();
+        OrderedUnifiedSet<Integer> set = OrderedUnifiedSet.newSet(expected);
+        Assert.assertEquals(expected, FastList.newList(set));
+        Assert.assertEquals(Integer.valueOf(1000), set.getFirst());
+        Assert.assertEquals(Integer.valueOf(1), set.getLast());
+        Assert.assertFalse(set.add(500));
+        Assert.assertEquals(expected, set.toList());
+        Assert.assertEquals("[3, 1, 2]", OrderedUnifiedSet.newSetWith(3, 1, 2).toString());
+    }
+
+    @Test
+    public void removeAndReinsert()
+    {
+        OrderedUnifiedSet<String> set = OrderedUnifiedSet.newSetWith("a", "b", "c", "d");
+        Assert.assertTrue(set.remove("b"));
+        Assert.assertFalse(set.remove("b"));
+        Assert.assertTrue(set.remove("d"));
+        Assert.assertEquals("c", set.getLast());
+        Assert.assertTrue(set.add("b"));
+        Assert.assertEquals(FastList.newListWith("a", "c", "b"), set.toList());
+        Assert.assertEquals(UnifiedSet.newSetWith("a", "b", "c"), set);
+    }
+
+    @Test
+    public void compaction()
+    {
+        OrderedUnifiedSet<Integer> set = OrderedUnifiedSet.newSet();
+        for (int i = 0; i < 10_000; i++)
+        {
+            set.add(i);
+            if (i % 3 != 0)
+            {
+                set.remove(i - 1);
+            }
+        }
+        MutableList<Integer> expected = Interval.zeroTo(9_999).select(each -> each % 3 == 2 || each == 9_999).toList();
+        Assert.assertEquals(expected, set.toList());
+        expected.each(each -> Verify.assertContains(each, set));
+
+        for (int i = 0; i < 100_000; i++)
+        {
+            set.add(-i - 1);
+            set.remove(-i - 1);
+        }
+        Assert.assertEquals(expected, set.toList());
+    }
+
+    @Test
+    public void nullElement()
+    {
+        OrderedUnifiedSet<Integer> set = OrderedUnifiedSet.newSetWith(1, null, 2);
+        Verify.assertContains(null, set);
+        Assert.assertEquals(FastList.newListWith(1, null, 2), set.toList());
+        Assert.assertTrue(set.remove(null));
+        Assert.assertEquals(FastList.newListWith(1, 2), set.toList());
+    }
+
+    @Test
+    public void iteratorRemoveKeepsOrder()
+    {
+        OrderedUnifiedSet<Integer> set = OrderedUnifiedSet.newSet(Interval.oneTo(100));
+        Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Interval.oneToBy(100, 2).toList(), set.toList());
+    }
+
+    @Test
+    public void removeDuringIteration()
+    {
+        OrderedUnifiedSet<Integer> set = OrderedUnifiedSet.newSet();
+        Interval.oneTo(100).each(set::add);
+        Iterator<Integer> iterator = set.iterator();
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+
+        // Removing without compacting leaves the positions held by the iterator valid
+        Interval.fromTo(2, 50).each(set::remove);
+        Assert.assertEquals(Integer.valueOf(51), iterator.next());
+        iterator.remove();
+        Verify.assertNotContains(51, set);
+
+        // Once more than half of the positions are removed, the set compacts and the iterator fails fast
+        Interval.fromTo(52, 99).each(set::remove);
+        Verify.assertThrows(ConcurrentModificationException.class, iterator::next);
+        Assert.assertEquals(FastList.newListWith(1, 100), set.toList());
+
+        Iterator<Integer> clearedIterator = set.iterator();
+        set.clear();
+        Verify.assertThrows(ConcurrentModificationException.class, clearedIterator::next);
+    }
+
+    @Test
+    public void serializationKeepsOrder()
+    {
+        OrderedUnifiedSet<Integer> set = OrderedUnifiedSet.newSetWith(3, 1, null, 2);
+        set.remove(1);
+        OrderedUnifiedSet<Integer> deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Verify.assertEqualsAndHashCode(set, deserialized);
+        Assert.assertEquals(FastList.newListWith(3, null, 2), deserialized.toList());
+    }
+}
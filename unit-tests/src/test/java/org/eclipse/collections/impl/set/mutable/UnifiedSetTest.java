@@ -13,6 +13,7 @@ package org.eclipse.collections.impl.set.mutable;
 import java.lang.reflect.Field;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.set.MutableSet;
@@ -26,6 +27,9 @@ import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
 import org.eclipse.collections.impl.math.Sum;
 import org.eclipse.collections.impl.math.SumProcedure;
+import org.eclipse.collections.impl.memory.MemoryLayout;
+import org.eclipse.collections.impl.memory.MemoryUsage;
+import org.eclipse.collections.impl.statistics.HashTableStatistics;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.test.domain.Key;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -568,6 +572,100 @@ public class UnifiedSetTest extends AbstractMutableSetTestCase
         this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).asParallel(null, 2);
     }
 
+    @Test
+    public void getMemoryUsage()
+    {
+        MemoryLayout layout = MemoryLayout.COMPRESSED_OOPS;
+        UnifiedSet<Integer> set = UnifiedSet.<Integer>newSet(2).with(COLLISION_1, COLLISION_2);
+        MemoryUsage usage = set.getMemoryUsage(layout);
+        Assert.assertEquals(layout.shallowSizeOf(set), usage.getShallowBytes());
+        Assert.assertEquals(usage.getShallowBytes() + 32L + 32L, usage.getStructuralBytes());
+        Assert.assertEquals(20L, usage.getWastedBytes());
+        Assert.assertEquals(4, usage.getCapacity());
+        Assert.assertEquals(2, usage.getSize());
+        Assert.assertEquals(1, usage.getCollidingBuckets());
+    }
+
+    @Test
+    public void getHashTableStatistics()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet();
+        Assert.assertEquals(0, set.getHashTableStatistics().getMaxProbeLength());
+        Assert.assertEquals(0, set.getHashTableStatistics().getResizeCount());
+
+        Interval.oneTo(100).each(set::add);
+        HashTableStatistics grown = set.getHashTableStatistics();
+        Assert.assertEquals(100, grown.getSize());
+        Assert.assertEquals(256, grown.getCapacity());
+        Assert.assertEquals(4, grown.getResizeCount());
+        Assert.assertEquals(0, grown.getInPlaceRehashCount());
+
+        UnifiedSet<Integer> presized = UnifiedSet.newSet();
+        presized.addAllIterable(Interval.oneTo(100));
+        Assert.assertEquals(256, presized.getHashTableStatistics().getCapacity());
+        Assert.assertEquals(1, presized.getHashTableStatistics().getResizeCount());
+
+        UnifiedSet<Integer> chainedSet = UnifiedSet.<Integer>newSet(2).with(COLLISION_1, COLLISION_2);
+        HashTableStatistics chained = chainedSet.getHashTableStatistics();
+        Assert.assertEquals(2, chained.getSize());
+        Assert.assertEquals(1, chained.getCollidingBuckets());
+        Assert.assertEquals(1.5, chained.getAverageProbeLength(), 0.0);
+        Assert.assertEquals(2, chained.getMaxProbeLength());
+        chainedSet.remove(COLLISION_1);
+        Assert.assertEquals(1, chainedSet.getHashTableStatistics().getMaxProbeLength());
+        Assert.assertEquals(0, chainedSet.getHashTableStatistics().getTombstones());
+    }
+
+    @Test
+    public void newSetParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            FastList<Integer> source = FastList.newList(Interval.zeroTo(49999));
+            source.addAll(Interval.fromToBy(0, 49999, 3));
+            source.addAll(MORE_COLLISIONS);
+            source.add(null);
+            UnifiedSet<Integer> set = UnifiedSet.newSetParallel(source, executorService);
+            Verify.assertSetsEqual(UnifiedSet.newSet(source), set);
+            Verify.assertContains(null, set);
+            Verify.assertSize(50001, set);
+            Assert.assertTrue(set.add(50000));
+
+            Verify.assertSetsEqual(UnifiedSet.newSetWith(1, 2, 3), UnifiedSet.newSetParallel(FastList.newListWith(1, 2, 3, 2), executorService));
+            Verify.assertEmpty(UnifiedSet.newSetParallel(FastList.newList(), executorService));
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void newSetParallelKeyPreservation()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            FastList<Key> source = FastList.newList();
+            for (int i = 0; i < 20000; i++)
+            {
+                source.add(new Key(String.valueOf(i % 10000)));
+            }
+            UnifiedSet<Key> set = UnifiedSet.newSetParallel(source, executorService);
+            Verify.assertSize(10000, set);
+            for (int i = 0; i < 10000; i++)
+            {
+                Key key = source.get(i);
+                Assert.assertSame(key, set.get(key));
+            }
+        }
+        finally
+        {
+            executorService.shutdown();
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void asParallelLessThanOneBatchSize()
     {
@@ -21,6 +21,7 @@ import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
 import org.eclipse.collections.impl.factory.Sets;
 import org.eclipse.collections.impl.factory.SortedSets;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
 import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
@@ -50,6 +51,29 @@ public class ImmutableTreeSetTest
         return ImmutableTreeSet.newSetWith(comparator, 1, 2, 3, 4);
     }
 
+    @Test
+    public void containsLargeSet()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAll(Interval.fromToBy(0, 1998, 2));
+        for (int i = -1; i < 2000; i++)
+        {
+            Assert.assertEquals(i >= 0 && i % 2 == 0, set.contains(i));
+        }
+    }
+
+    @Test
+    public void containsAllSorted()
+    {
+        ImmutableSortedSet<Integer> set = SortedSets.immutable.withAll(Interval.fromToBy(0, 1998, 2));
+        Assert.assertTrue(set.containsAll(TreeSortedSet.newSetWith(0, 2, 500, 1998)));
+        Assert.assertTrue(set.containsAllIterable(SortedSets.immutable.of(1000, 1002)));
+        Assert.assertFalse(set.containsAll(TreeSortedSet.newSetWith(0, 2, 501, 1998)));
+        Assert.assertFalse(set.containsAll(TreeSortedSet.newSetWith(2000)));
+        Assert.assertTrue(set.containsAll(TreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 0, 2, 500, 1998)));
+        Assert.assertFalse(set.containsAll(TreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 0, 3)));
+        Assert.assertEquals(set, SortedSets.immutable.withAll(Interval.fromToBy(0, 1998, 2)));
+    }
+
     @Test
     public void constructWithNull()
     {
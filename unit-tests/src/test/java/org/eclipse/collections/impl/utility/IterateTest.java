@@ -50,6 +50,8 @@ import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.multimap.bag.BagMultimap;
 import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableIntObjectListMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableLongObjectListMultimap;
 import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
 import org.eclipse.collections.api.multimap.sortedbag.MutableSortedBagMultimap;
 import org.eclipse.collections.api.multimap.sortedset.MutableSortedSetMultimap;
@@ -93,6 +95,7 @@ import org.eclipse.collections.impl.math.Sum;
 import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.multimap.bag.sorted.mutable.TreeBagMultimap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.multimap.primitive.IntObjectFastListMultimap;
 import org.eclipse.collections.impl.multimap.set.UnifiedSetMultimap;
 import org.eclipse.collections.impl.multimap.set.sorted.TreeSortedSetMultimap;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
@@ -464,6 +467,36 @@ public class IterateTest
         Verify.assertThrows(IllegalArgumentException.class, () -> Iterate.groupBy(null, null));
     }
 
+    @Test
+    public void groupByInt()
+    {
+        FastList<String> source = FastList.newListWith("Ted", "Sally", "Mary", "Bob", "Sara", "Al");
+        MutableIntObjectListMultimap<String> expected = IntObjectFastListMultimap.newMultimap();
+        expected.put(3, "Ted");
+        expected.put(5, "Sally");
+        expected.put(4, "Mary");
+        expected.put(3, "Bob");
+        expected.put(4, "Sara");
+        expected.put(2, "Al");
+        Assert.assertEquals(expected, Iterate.groupByInt(source, String::length));
+        Assert.assertEquals(expected, Iterate.groupByInt(new ArrayList<>(source), String::length));
+        Assert.assertEquals(expected, Iterate.groupByInt(LazyIterate.adapt(source), String::length));
+        Assert.assertEquals(FastList.newListWith("Ted", "Bob"), Iterate.groupByInt(source, String::length).get(3));
+        Verify.assertThrows(IllegalArgumentException.class, () -> Iterate.groupByInt(null, String::length));
+    }
+
+    @Test
+    public void groupByLong()
+    {
+        MutableLongObjectListMultimap<Integer> result = Iterate.groupByLong(Interval.oneTo(10), each -> each % 3L);
+        Assert.assertEquals(10, result.size());
+        Assert.assertEquals(3, result.sizeDistinct());
+        Assert.assertEquals(FastList.newListWith(3, 6, 9), result.get(0L));
+        Assert.assertEquals(FastList.newListWith(1, 4, 7, 10), result.get(1L));
+        Assert.assertEquals(FastList.newListWith(2, 5, 8), result.get(2L));
+        Verify.assertThrows(IllegalArgumentException.class, () -> Iterate.groupByLong(null, each -> 0L));
+    }
+
     @Test
     public void groupByEach()
     {
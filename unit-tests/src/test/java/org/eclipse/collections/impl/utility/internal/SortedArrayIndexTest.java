@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.SortedSets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SortedArrayIndexTest
+{
+    private static Integer[] evenNumbers(int size)
+    {
+        Integer[] array = new Integer[size];
+        for (int i = 0; i < size; i++)
+        {
+            array[i] = i * 2;
+        }
+        return array;
+    }
+
+    @Test
+    public void binarySearchMatchesArrays()
+    {
+        for (int size = 0; size <= 3 * SortedArrayIndex.EYTZINGER_THRESHOLD; size++)
+        {
+            Integer[] array = evenNumbers(size);
+            SortedArrayIndex<Integer> index = new SortedArrayIndex<>(array, null);
+            for (int key = -1; key <= size * 2; key++)
+            {
+                Assert.assertEquals(Arrays.binarySearch(array, key), index.binarySearch(key));
+            }
+        }
+    }
+
+    @Test
+    public void binarySearchWithComparator()
+    {
+        Comparator<Integer> comparator = Collections.reverseOrder();
+        Integer[] array = evenNumbers(1000);
+        Collections.reverse(Arrays.asList(array));
+        SortedArrayIndex<Integer> index = new SortedArrayIndex<>(array, comparator);
+        for (int key = -1; key <= 2000; key++)
+        {
+            Assert.assertEquals(Arrays.binarySearch(array, key, comparator), index.binarySearch(key));
+        }
+    }
+
+    @Test
+    public void binarySearchFrom()
+    {
+        Integer[] array = evenNumbers(1000);
+        SortedArrayIndex<Integer> index = new SortedArrayIndex<>(array, null);
+        for (int fromIndex = 0; fromIndex <= array.length; fromIndex += 7)
+        {
+            for (int key = -1; key <= 2000; key += 3)
+            {
+                Assert.assertEquals(Arrays.binarySearch(array, key), index.binarySearchFrom(fromIndex, key));
+            }
+        }
+    }
+
+    @Test
+    public void isSortedBy()
+    {
+        Assert.assertTrue(SortedArrayIndex.isSortedBy(SortedSets.mutable.of(1, 2), null));
+        Assert.assertFalse(SortedArrayIndex.isSortedBy(SortedSets.mutable.of(1, 2), Comparators.reverseNaturalOrder()));
+        Assert.assertTrue(SortedArrayIndex.isSortedBy(SortedSets.mutable.of(Comparators.reverseNaturalOrder(), 1, 2), Comparators.reverseNaturalOrder()));
+        Assert.assertTrue(SortedArrayIndex.isSortedBy(new TreeSet<>(Arrays.asList(1, 2)), null));
+        Assert.assertFalse(SortedArrayIndex.isSortedBy(Lists.mutable.of(1, 2), null));
+    }
+}